@@ -0,0 +1,390 @@
+package polynomial;
+
+/**
+ * This is an implementation of the Polynomial interface that chooses its own representation. The
+ * terms are kept either in a SparsePolynomial or in a DensePolynomial, depending on the share of
+ * the powers up to the degree that have a non-zero coefficient. The polynomial becomes dense when
+ * that share rises above one threshold and sparse again when it falls below a second, lower one,
+ * so a polynomial whose share hovers around a threshold does not keep changing representation.
+ * Every operation then runs on the representation that suits the terms at the time.
+ *
+ * <p>A term whose power is far above the degree of a dense polynomial is added after switching to
+ * the sparse representation, so the dense array is never grown only to be dropped. In the same way,
+ * a sum or a product whose share of powers would be too small for a dense polynomial is computed
+ * on the sparse representation, whatever the representation of the operands.
+ */
+public class AdaptivePolynomial implements Polynomial {
+
+  private static final double DEFAULT_SPARSE_BELOW = 0.25;
+  private static final double DEFAULT_DENSE_ABOVE = 0.5;
+
+  private final double sparseBelow;
+  private final double denseAbove;
+  private SparsePolynomial sparse;
+  private DensePolynomial dense;
+  private int count;
+
+  /**
+   * This the default constructor that is used to initialize the polynomial. It becomes dense when
+   * more than half of the powers are present and sparse again when less than a quarter are.
+   */
+  public AdaptivePolynomial() {
+    this(DEFAULT_SPARSE_BELOW, DEFAULT_DENSE_ABOVE);
+  }
+
+  /**
+   * This constructor initializes an empty polynomial with the given thresholds. The share of the
+   * powers present is the number of terms divided by the degree plus one.
+   *
+   * @param sparseBelow the share below which a dense polynomial becomes sparse.
+   * @param denseAbove  the share above which a sparse polynomial becomes dense.
+   * @throws IllegalArgumentException if the first threshold is not above zero, the second is
+   *                                  above one, or the first is not below the second.
+   */
+  public AdaptivePolynomial(double sparseBelow, double denseAbove)
+          throws IllegalArgumentException {
+    if (!(sparseBelow > 0 && sparseBelow < denseAbove && denseAbove <= 1)) {
+      throw new IllegalArgumentException("the thresholds are incorrect!!");
+    }
+    this.sparseBelow = sparseBelow;
+    this.denseAbove = denseAbove;
+    this.sparse = new SparsePolynomial();
+  }
+
+  /**
+   * This constructor takes a polynomial as a string, parses it and creates the polynomial
+   * accordingly. The string follows the same format as the one accepted by PolynomialImpl.
+   *
+   * @param polynomial this method takes a polynomial in the form of string.
+   * @throws IllegalArgumentException if the polynomial is incorrect.
+   */
+  public AdaptivePolynomial(String polynomial) throws IllegalArgumentException {
+    this(DEFAULT_SPARSE_BELOW, DEFAULT_DENSE_ABOVE);
+    adopt(new SparsePolynomial(polynomial));
+  }
+
+  /**
+   * This constructor creates a copy of any other polynomial, in the representation that suits its
+   * terms.
+   *
+   * @param other the polynomial to be copied.
+   */
+  public AdaptivePolynomial(Polynomial other) {
+    this(DEFAULT_SPARSE_BELOW, DEFAULT_DENSE_ABOVE);
+    adopt(new SparsePolynomial(other));
+  }
+
+  /**
+   * This is a private constructor that is used to wrap the result of an operation, keeping the
+   * thresholds of the polynomial it was computed from.
+   *
+   * @param sparseBelow the share below which a dense polynomial becomes sparse.
+   * @param denseAbove  the share above which a sparse polynomial becomes dense.
+   * @param result      the result, which is owned by the new polynomial from then on.
+   */
+  private AdaptivePolynomial(double sparseBelow, double denseAbove, Polynomial result) {
+    this.sparseBelow = sparseBelow;
+    this.denseAbove = denseAbove;
+    if (result instanceof DensePolynomial) {
+      this.dense = (DensePolynomial) result;
+    } else if (result instanceof SparsePolynomial) {
+      this.sparse = (SparsePolynomial) result;
+    } else {
+      this.sparse = new SparsePolynomial(result);
+    }
+    this.count = countTerms(storage());
+    rebalance();
+  }
+
+  /**
+   * The addition is performed by combining all the terms and adding the coefficients of the terms
+   * with the same power. The representation is changed afterwards if the share of the powers
+   * present has crossed a threshold.
+   *
+   * @param coefficient this is the coefficient of the term.
+   * @param power       this is the power of the term.
+   * @throws IllegalArgumentException is thrown when an Illegal argument is added.
+   */
+  @Override
+  public void addTerm(int coefficient, int power) throws IllegalArgumentException {
+
+    if (coefficient == 0) {
+      return;
+    }
+
+    if (power < 0) {
+      throw new IllegalArgumentException("power cannot be less than zero!!");
+    }
+
+    if (dense != null && power > dense.getDegree()
+            && share(count + 1, power) < sparseBelow) {
+      toSparse();
+    }
+
+    long before = (dense != null) ? dense.coefficientAt(power) : sparse.coefficientAt(power);
+    storage().addTerm(coefficient, power);
+    long after = Polynomials.wrap(before + coefficient);
+
+    if (before == 0) {
+      count++;
+    } else if (after == 0) {
+      count--;
+    }
+
+    rebalance();
+  }
+
+  /**
+   * A method getCoefficient that takes a power and returns the coefficient for the term with that
+   * power.
+   *
+   * @param power this is the power of the term
+   * @return the coefficient of the term.
+   */
+  @Override
+  public int getCoefficient(int power) {
+    return storage().getCoefficient(power);
+  }
+
+  /**
+   * A method getDegree that returns the degree of this polynomial.
+   *
+   * @return the degree of the polynomial.
+   */
+  @Override
+  public int getDegree() {
+    return storage().getDegree();
+  }
+
+  /**
+   * A method evaluate that takes a double-precision decimal number and returns a double-precision
+   * result which is the evaluation of this polynomial using this argument’s value.
+   *
+   * @param x this method takes in a variable.
+   * @return it returns the evaluated result.
+   */
+  @Override
+  public double evaluate(double x) {
+    return storage().evaluate(x);
+  }
+
+  /**
+   * A method evaluate that evaluates this polynomial at a range of values of an array and writes
+   * the results into a range of another array. The two ranges may be the same.
+   *
+   * @param xs        the values of the variable.
+   * @param xsOffset  the index of the first value in xs.
+   * @param out       the array the results are written to.
+   * @param outOffset the index in out of the first result.
+   * @param length    the number of values to be evaluated.
+   * @throws IndexOutOfBoundsException if the range does not fit in either array.
+   */
+  @Override
+  public void evaluate(double[] xs, int xsOffset, double[] out, int outOffset, int length)
+          throws IndexOutOfBoundsException {
+    storage().evaluate(xs, xsOffset, out, outOffset, length);
+  }
+
+  /**
+   * A method add that takes another Polynomial object and returns the polynomial obtained by adding
+   * the two polynomials. Neither polynomial is mutated. The sum is an adaptive polynomial with the
+   * same thresholds as this one. It is computed densely only when this polynomial is dense and the
+   * sum could still have enough terms up to its degree to stay dense.
+   *
+   * @param p2 this method takes another Polynomial as an argument.
+   * @return the result of addition of two polynomial.
+   */
+  @Override
+  public Polynomial add(Polynomial p2) {
+    Polynomial other = unwrap(p2);
+    long terms = (long) count + countTerms(p2);
+    long degree = Math.max(getDegree(), other.getDegree());
+    return new AdaptivePolynomial(sparseBelow, denseAbove,
+            storageFor(terms, degree).add(other));
+  }
+
+  /**
+   * A method derivative that takes no parameters and returns the polynomial obtained by
+   * differentiating this polynomial. The derivative is an adaptive polynomial with the same
+   * thresholds as this one.
+   *
+   * @return the polynomial after performing derivative.
+   */
+  @Override
+  public Polynomial derivative() {
+    return new AdaptivePolynomial(sparseBelow, denseAbove, storage().derivative());
+  }
+
+  /**
+   * A method multiply that takes another Polynomial object and returns the polynomial obtained by
+   * multiplying the two polynomials. Neither polynomial is mutated. The product is an adaptive
+   * polynomial with the same thresholds as this one. It is computed densely only when this
+   * polynomial is dense and the product could still have enough terms up to its degree to stay
+   * dense.
+   *
+   * @param p2 this method takes another Polynomial as an argument.
+   * @return the result of multiplication of two polynomial.
+   */
+  @Override
+  public Polynomial multiply(Polynomial p2) {
+    Polynomial other = unwrap(p2);
+    long degree = (long) getDegree() + other.getDegree();
+    long terms = Math.min((long) count * countTerms(p2), degree + 1);
+    return new AdaptivePolynomial(sparseBelow, denseAbove,
+            storageFor(terms, degree).multiply(other));
+  }
+
+  /**
+   * A method terms that returns an iterator over the terms of this polynomial in decreasing order
+   * of power. The iterator should not be used after the polynomial has been changed.
+   *
+   * @return an iterator over the terms of the polynomial.
+   */
+  @Override
+  public TermIterator terms() {
+    return storage().terms();
+  }
+
+  /**
+   * This method tells which representation the polynomial uses at the moment.
+   *
+   * @return true if the terms are kept in a dense array, false if they are kept sparse.
+   */
+  public boolean isDense() {
+    return dense != null;
+  }
+
+  /**
+   * The toString method is overridden to return the polynomial in sorted order in terms of power.
+   *
+   * @return the polynomial in the form of string.
+   */
+  @Override
+  public String toString() {
+    return storage().toString();
+  }
+
+  /**
+   * This method take in as argument a polynomial and evaluates if both the polynomials are same.
+   * Two polynomials are the same when they have the same terms, whatever their implementation.
+   *
+   * @param p2 this method takes in a polynomial as an argument.
+   * @return true if the polynomials are same else return false.
+   */
+  @Override
+  public boolean equals(Object p2) {
+    return Polynomials.equals(this, p2);
+  }
+
+  /**
+   * Any two polynomial that compare equal using the equals() method must produce the same
+   * hashCode. The hash is the one kept by the representation in use.
+   *
+   * @return the hashcode of the polynomial.
+   */
+  @Override
+  public int hashCode() {
+    return storage().hashCode();
+  }
+
+  /**
+   * This method returns the representation in use.
+   *
+   * @return the polynomial holding the terms.
+   */
+  private Polynomial storage() {
+    return (dense != null) ? dense : sparse;
+  }
+
+  /**
+   * This method returns the representation an operation should run on, given the largest number
+   * of terms its result can have and the degree of the result. The dense representation is only
+   * used when it is the one in use and the result could be dense enough to keep it, so no dense
+   * array is allocated for a result that would be made sparse straight away.
+   *
+   * @param terms  the largest number of terms of the result.
+   * @param degree the degree of the result.
+   * @return the polynomial the operation is run on, which must not be changed.
+   */
+  private Polynomial storageFor(long terms, long degree) {
+    if (dense != null && share(terms, degree) >= sparseBelow) {
+      return dense;
+    }
+    return (sparse != null) ? sparse : new SparsePolynomial(dense);
+  }
+
+  /**
+   * This method returns the representation in use by another polynomial if it is adaptive, so
+   * that operations work on it directly.
+   *
+   * @param p the polynomial.
+   * @return the polynomial holding the terms of p.
+   */
+  private static Polynomial unwrap(Polynomial p) {
+    return (p instanceof AdaptivePolynomial) ? ((AdaptivePolynomial) p).storage() : p;
+  }
+
+  /**
+   * This method takes over the terms of a sparse polynomial, switching to the dense representation
+   * if it suits them better.
+   *
+   * @param terms the polynomial, which is owned by this one from then on.
+   */
+  private void adopt(SparsePolynomial terms) {
+    sparse = terms;
+    count = countTerms(terms);
+    rebalance();
+  }
+
+  /**
+   * This method changes the representation if the share of the powers present has crossed the
+   * threshold of the representation in use.
+   */
+  private void rebalance() {
+    double share = share(count, storage().getDegree());
+    if (dense == null && share > denseAbove) {
+      dense = new DensePolynomial(sparse);
+      sparse = null;
+    } else if (dense != null && share < sparseBelow) {
+      toSparse();
+    }
+  }
+
+  /**
+   * This method moves the terms into the sparse representation.
+   */
+  private void toSparse() {
+    sparse = new SparsePolynomial(dense);
+    dense = null;
+  }
+
+  /**
+   * This method returns the share of the powers up to a degree that have a term.
+   *
+   * @param terms  the number of terms.
+   * @param degree the degree.
+   * @return the number of terms divided by the number of powers.
+   */
+  private static double share(long terms, long degree) {
+    return terms / (degree + 1.0);
+  }
+
+  /**
+   * This method counts the terms of a polynomial. An adaptive polynomial already keeps its count.
+   *
+   * @param p the polynomial.
+   * @return the number of terms with a non-zero coefficient.
+   */
+  private static int countTerms(Polynomial p) {
+    if (p instanceof AdaptivePolynomial) {
+      return ((AdaptivePolynomial) p).count;
+    }
+    int terms = 0;
+    TermIterator iterator = p.terms();
+    while (iterator.next()) {
+      terms++;
+    }
+    return terms;
+  }
+
+}
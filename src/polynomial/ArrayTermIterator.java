@@ -0,0 +1,60 @@
+package polynomial;
+
+/**
+ * This class iterates over terms stored in two parallel arrays sorted by increasing power. The
+ * arrays are walked from the end so that the terms come out in decreasing order of power.
+ */
+class ArrayTermIterator implements TermIterator {
+
+  private final int[] powers;
+  private final long[] coefficients;
+  private int index;
+
+  /**
+   * This a constructor that is used to create the iterator.
+   *
+   * @param powers       the powers sorted in increasing order.
+   * @param coefficients the coefficient of each power, none of them zero.
+   * @param size         the number of terms stored in the arrays.
+   */
+  ArrayTermIterator(int[] powers, long[] coefficients, int size) {
+    this.powers = powers;
+    this.coefficients = coefficients;
+    this.index = size;
+  }
+
+  /**
+   * This method moves the iterator onto the next term.
+   *
+   * @return true if there is a term to be read, false if all the terms have been visited.
+   */
+  @Override
+  public boolean next() {
+    if (index == 0) {
+      return false;
+    }
+    index--;
+    return true;
+  }
+
+  /**
+   * This method is used to get the power of the current term.
+   *
+   * @return the power.
+   */
+  @Override
+  public int getPower() {
+    return powers[index];
+  }
+
+  /**
+   * This method is used to get the coefficient of the current term.
+   *
+   * @return the coefficient.
+   */
+  @Override
+  public long getCoefficient() {
+    return coefficients[index];
+  }
+
+}
@@ -0,0 +1,73 @@
+package polynomial;
+
+/**
+ * This class is a snapshot of the counters kept by a cache: how many lookups found a result, how
+ * many had to compute it, and how many results were dropped to make room for new ones.
+ */
+public final class CacheStats {
+
+  private final long hitCount;
+  private final long missCount;
+  private final long evictionCount;
+
+  /**
+   * This a constructor that is used to create the snapshot of the counters.
+   *
+   * @param hitCount      the number of lookups that found a result.
+   * @param missCount     the number of lookups that did not find a result.
+   * @param evictionCount the number of results dropped from the cache.
+   */
+  CacheStats(long hitCount, long missCount, long evictionCount) {
+    this.hitCount = hitCount;
+    this.missCount = missCount;
+    this.evictionCount = evictionCount;
+  }
+
+  /**
+   * This method is used to get the number of lookups that found a result.
+   *
+   * @return the number of hits.
+   */
+  public long hitCount() {
+    return hitCount;
+  }
+
+  /**
+   * This method is used to get the number of lookups that did not find a result.
+   *
+   * @return the number of misses.
+   */
+  public long missCount() {
+    return missCount;
+  }
+
+  /**
+   * This method is used to get the number of results dropped to make room for new ones.
+   *
+   * @return the number of evictions.
+   */
+  public long evictionCount() {
+    return evictionCount;
+  }
+
+  /**
+   * This method is used to get the share of lookups that found a result.
+   *
+   * @return the hit rate, or 1 if there has not been any lookup.
+   */
+  public double hitRate() {
+    long lookups = hitCount + missCount;
+    return lookups == 0 ? 1.0 : (double) hitCount / lookups;
+  }
+
+  /**
+   * The toString method is overridden to return the counters in a readable form.
+   *
+   * @return the counters in the form of string.
+   */
+  @Override
+  public String toString() {
+    return "hits=" + hitCount + " misses=" + missCount + " evictions=" + evictionCount;
+  }
+
+}
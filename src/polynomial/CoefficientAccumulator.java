@@ -0,0 +1,115 @@
+package polynomial;
+
+import java.util.Arrays;
+
+/**
+ * This class sums the coefficients of terms by power using open addressing over primitive arrays,
+ * so that terms can be collected without boxing and without building a polynomial for every piece
+ * of work. The slots are found in the same way as in PowerIndex. The sums are kept as longs and
+ * are only wrapped around to an int when they are added to a polynomial, which gives the same
+ * coefficients as adding the terms one by one.
+ */
+final class CoefficientAccumulator implements TermSink {
+
+  private static final int INITIAL_CAPACITY = 16;
+
+  private int[] powers;
+  private long[] sums;
+  private int size;
+
+  /**
+   * This the default constructor that is used to create an empty accumulator.
+   */
+  CoefficientAccumulator() {
+    powers = new int[INITIAL_CAPACITY];
+    sums = new long[INITIAL_CAPACITY];
+    Arrays.fill(powers, PowerIndex.EMPTY);
+  }
+
+  /**
+   * This method adds a term to the sum kept for its power.
+   *
+   * @param coefficient the coefficient of the term.
+   * @param power       the power of the term, which cannot be negative.
+   */
+  @Override
+  public void accept(int coefficient, int power) {
+    add(power, coefficient);
+  }
+
+  /**
+   * This method adds the sums kept by another accumulator to the sums kept by this one.
+   *
+   * @param other the accumulator whose sums are added.
+   */
+  void addAll(CoefficientAccumulator other) {
+    for (int slot = 0; slot < other.powers.length; slot++) {
+      if (other.powers[slot] != PowerIndex.EMPTY) {
+        add(other.powers[slot], other.sums[slot]);
+      }
+    }
+  }
+
+  /**
+   * This method adds every sum that does not cancel out to a polynomial as a single term.
+   *
+   * @param p the polynomial the terms are added to.
+   */
+  void addTo(Polynomial p) {
+    for (int slot = 0; slot < powers.length; slot++) {
+      int coefficient = (int) sums[slot];
+      if (powers[slot] != PowerIndex.EMPTY && coefficient != 0) {
+        p.addTerm(coefficient, powers[slot]);
+      }
+    }
+  }
+
+  /**
+   * This method is used to get the number of powers that have a sum.
+   *
+   * @return the number of powers.
+   */
+  int size() {
+    return size;
+  }
+
+  /**
+   * This method adds an amount to the sum kept for a power.
+   *
+   * @param power  the power.
+   * @param amount the amount to be added.
+   */
+  private void add(int power, long amount) {
+    int slot = PowerIndex.slot(powers, power);
+    if (powers[slot] != PowerIndex.EMPTY) {
+      sums[slot] += amount;
+      return;
+    }
+    powers[slot] = power;
+    sums[slot] = amount;
+    size++;
+    if (2 * size > powers.length) {
+      resize(powers.length * 2);
+    }
+  }
+
+  /**
+   * This method rehashes every sum into arrays of a new capacity.
+   *
+   * @param capacity the new capacity, a power of two.
+   */
+  private void resize(int capacity) {
+    int[] oldPowers = powers;
+    long[] oldSums = sums;
+    powers = new int[capacity];
+    sums = new long[capacity];
+    Arrays.fill(powers, PowerIndex.EMPTY);
+    size = 0;
+    for (int i = 0; i < oldPowers.length; i++) {
+      if (oldPowers[i] != PowerIndex.EMPTY) {
+        add(oldPowers[i], oldSums[i]);
+      }
+    }
+  }
+
+}
@@ -0,0 +1,107 @@
+package polynomial;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * This class sums terms added by many threads at the same time. Every power has its own LongAdder
+ * in a concurrent map, so threads adding to different powers never touch the same memory, and
+ * threads adding to the same power are spread over the cells of its adder instead of contending
+ * on a lock. A polynomial holding the sums can be taken at any time.
+ */
+public class ConcurrentPolynomialAccumulator implements TermSink {
+
+  private final ConcurrentHashMap<Integer, LongAdder> counters;
+
+  /**
+   * This the default constructor that is used to create an empty accumulator.
+   */
+  public ConcurrentPolynomialAccumulator() {
+    counters = new ConcurrentHashMap<>();
+  }
+
+  /**
+   * This method adds a term to the sum kept for its power. It can be called by any number of
+   * threads at the same time.
+   *
+   * @param coefficient this is the coefficient of the term.
+   * @param power       this is the power of the term.
+   * @throws IllegalArgumentException if the power is negative.
+   */
+  public void addTerm(int coefficient, int power) throws IllegalArgumentException {
+
+    if (coefficient == 0) {
+      return;
+    }
+
+    if (power < 0) {
+      throw new IllegalArgumentException("power cannot be less than zero!!");
+    }
+
+    LongAdder counter = counters.get(power);
+    if (counter == null) {
+      counter = counters.computeIfAbsent(power, key -> new LongAdder());
+    }
+    counter.add(coefficient);
+  }
+
+  /**
+   * This method adds a term to the sum kept for its power, so that a PolynomialScanner can feed
+   * the accumulator directly.
+   *
+   * @param coefficient the coefficient of the term.
+   * @param power       the power of the term.
+   * @throws IllegalArgumentException if the power is negative.
+   */
+  @Override
+  public void accept(int coefficient, int power) throws IllegalArgumentException {
+    addTerm(coefficient, power);
+  }
+
+  /**
+   * This method returns a polynomial holding the sums of the terms added so far. Every term whose
+   * addTerm call finished before this method was called is included. A term added while the
+   * snapshot is being taken is either included entirely or not at all. The sums are kept as longs
+   * and wrap around like int arithmetic in the snapshot, so they give the same coefficients as
+   * adding the terms to a polynomial one by one. The polynomial returned is independent of the
+   * accumulator.
+   *
+   * @return the polynomial of the sums.
+   */
+  public Polynomial snapshot() {
+
+    int capacity = Math.max(1, counters.size());
+    long[] keys = new long[capacity];
+    long[] sums = new long[capacity];
+    int count = 0;
+
+    for (Map.Entry<Integer, LongAdder> entry : counters.entrySet()) {
+      long sum = Polynomials.wrap(entry.getValue().sum());
+      if (sum == 0) {
+        continue;
+      }
+      if (count == keys.length) {
+        keys = Arrays.copyOf(keys, count * 2);
+        sums = Arrays.copyOf(sums, count * 2);
+      }
+      //the power goes in the high bits so that sorting the keys sorts by power
+      keys[count] = ((long) entry.getKey() << 32) | count;
+      sums[count] = sum;
+      count++;
+    }
+
+    Arrays.sort(keys, 0, count);
+
+    int[] powers = new int[Math.max(1, count)];
+    long[] coefficients = new long[Math.max(1, count)];
+    for (int i = 0; i < count; i++) {
+      powers[i] = (int) (keys[i] >>> 32);
+      coefficients[i] = sums[(int) keys[i]];
+    }
+
+    return new SparsePolynomial(powers, coefficients, count);
+  }
+
+}
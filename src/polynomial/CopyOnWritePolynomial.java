@@ -0,0 +1,227 @@
+package polynomial;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * This is a thread-safe implementation of the Polynomial interface meant for polynomials that are
+ * read far more often than they are changed. The terms are held in an immutable
+ * PersistentPolynomial that is replaced as a whole on every change. A writer builds the next
+ * version off to the side, sharing most of its tree with the current one, and also builds the
+ * sorted layout of its terms and its hash before publishing it with a single compare-and-set. A
+ * reader only has to read the current version, so readers never block and never write to shared
+ * memory, and the first read after a change costs no more than any other read. The price is that
+ * a change takes time linear in the number of terms.
+ *
+ * <p>Every method works on the version that is current when it is called. Callers that need
+ * several reads to see the same terms should take a snapshot and read from it instead.
+ */
+public class CopyOnWritePolynomial implements LayoutPolynomial {
+
+  private final AtomicReference<PersistentPolynomial> current;
+
+  /**
+   * This the default constructor that is used to initialize the polynomial.
+   */
+  public CopyOnWritePolynomial() {
+    this(PersistentPolynomial.empty());
+  }
+
+  /**
+   * This constructor takes a polynomial as a string, parses it and creates the polynomial
+   * accordingly. The string follows the same format as the one accepted by PolynomialImpl.
+   *
+   * @param polynomial this method takes a polynomial in the form of string.
+   * @throws IllegalArgumentException if the polynomial is incorrect.
+   */
+  public CopyOnWritePolynomial(String polynomial) throws IllegalArgumentException {
+    this(PersistentPolynomial.parse(polynomial));
+  }
+
+  /**
+   * This constructor creates a thread-safe copy of any other polynomial.
+   *
+   * @param other the polynomial to be copied.
+   */
+  public CopyOnWritePolynomial(Polynomial other) {
+    PersistentPolynomial version = other instanceof CopyOnWritePolynomial
+            ? ((CopyOnWritePolynomial) other).snapshot() : PersistentPolynomial.of(other);
+    this.current = new AtomicReference<>(version.prepared());
+  }
+
+  /**
+   * The addition is performed by combining all the terms and adding the coefficients of the terms
+   * with the same power. The next version is built and prepared for readers from the current one
+   * and published only if no other writer has published a version in the meantime, otherwise it
+   * is built again.
+   *
+   * @param coefficient this is the coefficient of the term.
+   * @param power       this is the power of the term.
+   * @throws IllegalArgumentException is thrown when an Illegal argument is added.
+   */
+  @Override
+  public void addTerm(int coefficient, int power) throws IllegalArgumentException {
+
+    if (power < 0 && coefficient != 0) {
+      throw new IllegalArgumentException("power cannot be less than zero!!");
+    }
+
+    PersistentPolynomial version;
+    PersistentPolynomial next;
+    do {
+      version = current.get();
+      next = version.withTerm(coefficient, power).prepared();
+    }
+    while (next != version && !current.compareAndSet(version, next));
+  }
+
+  /**
+   * This method returns the current version of the terms, which will never change.
+   *
+   * @return the immutable polynomial holding the current terms.
+   */
+  public PersistentPolynomial snapshot() {
+    return current.get();
+  }
+
+  /**
+   * This method returns the terms of the current version sorted by power in primitive arrays.
+   *
+   * @return the sorted layout of the terms.
+   */
+  @Override
+  public TermLayout layout() {
+    return current.get().layout();
+  }
+
+  /**
+   * A method getCoefficient that takes a power and returns the coefficient for the term with that
+   * power.
+   *
+   * @param power this is the power of the term
+   * @return the coefficient of the term.
+   */
+  @Override
+  public int getCoefficient(int power) {
+    return current.get().getCoefficient(power);
+  }
+
+  /**
+   * A method getDegree that returns the degree of this polynomial.
+   *
+   * @return the degree of the polynomial.
+   */
+  @Override
+  public int getDegree() {
+    return current.get().getDegree();
+  }
+
+  /**
+   * A method evaluate that takes a double-precision decimal number and returns a double-precision
+   * result which is the evaluation of this polynomial using this argument’s value.
+   *
+   * @param x this method takes in a variable.
+   * @return it returns the evaluated result.
+   */
+  @Override
+  public double evaluate(double x) {
+    return current.get().evaluate(x);
+  }
+
+  /**
+   * A method evaluate that evaluates this polynomial at a range of values of an array and writes
+   * the results into a range of another array. Every value is evaluated with the same version.
+   *
+   * @param xs        the values of the variable.
+   * @param xsOffset  the index of the first value in xs.
+   * @param out       the array the results are written to.
+   * @param outOffset the index in out of the first result.
+   * @param length    the number of values to be evaluated.
+   * @throws IndexOutOfBoundsException if the range does not fit in either array.
+   */
+  @Override
+  public void evaluate(double[] xs, int xsOffset, double[] out, int outOffset, int length)
+          throws IndexOutOfBoundsException {
+    current.get().evaluate(xs, xsOffset, out, outOffset, length);
+  }
+
+  /**
+   * A method add that takes another Polynomial object and returns the polynomial obtained by adding
+   * the two polynomials. Neither polynomial is mutated.
+   *
+   * @param p2 this method takes another Polynomial as an argument.
+   * @return the result of addition of two polynomial.
+   */
+  @Override
+  public Polynomial add(Polynomial p2) {
+    return current.get().add(p2);
+  }
+
+  /**
+   * A method derivative that takes no parameters and returns the polynomial obtained by
+   * differentiating this polynomial.
+   *
+   * @return the polynomial after performing derivative.
+   */
+  @Override
+  public Polynomial derivative() {
+    return current.get().derivative();
+  }
+
+  /**
+   * A method multiply that takes another Polynomial object and returns the polynomial obtained by
+   * multiplying the two polynomials. Neither polynomial is mutated.
+   *
+   * @param p2 this method takes another Polynomial as an argument.
+   * @return the result of multiplication of two polynomial.
+   */
+  @Override
+  public Polynomial multiply(Polynomial p2) {
+    return current.get().multiply(p2);
+  }
+
+  /**
+   * A method terms that returns an iterator over the terms of this polynomial in decreasing order
+   * of power. The iterator reads the version that is current when it is created, so it is not
+   * affected by later changes.
+   *
+   * @return an iterator over the terms of the polynomial.
+   */
+  @Override
+  public TermIterator terms() {
+    return current.get().terms();
+  }
+
+  /**
+   * The toString method is overridden to return the polynomial in sorted order in terms of power.
+   *
+   * @return the polynomial in the form of string.
+   */
+  @Override
+  public String toString() {
+    return current.get().toString();
+  }
+
+  /**
+   * This method take in as argument a polynomial and evaluates if both the polynomials are same.
+   * Two polynomials are the same when they have the same terms, whatever their implementation.
+   *
+   * @param p2 this method takes in a polynomial as an argument.
+   * @return true if the polynomials are same else return false.
+   */
+  @Override
+  public boolean equals(Object p2) {
+    return Polynomials.equals(this, p2);
+  }
+
+  /**
+   * Any two polynomial that compare equal using the equals() method must produce the same
+   * hashCode. The hash of each version is kept by the version itself.
+   *
+   * @return the hashcode of the polynomial.
+   */
+  @Override
+  public int hashCode() {
+    return current.get().hashCode();
+  }
+
+}
@@ -0,0 +1,392 @@
+package polynomial;
+
+import java.util.Arrays;
+
+/**
+ * This is a dense implementation of the Polynomial interface. The coefficients are stored in a
+ * contiguous array indexed by power, so looking up or updating the coefficient of a term takes
+ * constant time and the degree is cached instead of being recomputed on every call. This
+ * representation is best suited to polynomials where most powers up to the degree are present.
+ */
+public class DensePolynomial implements Polynomial {
+
+  private static final int DEFAULT_CAPACITY = 8;
+  private static final int MAX_LENGTH = Integer.MAX_VALUE - 8;
+
+  private long[] coefficients;
+  private int degree;
+  private int hash;
+
+  /**
+   * This the default constructor that is used to initialize the polynomial.
+   */
+  public DensePolynomial() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  /**
+   * This constructor initializes an empty polynomial with room for every power up to the given
+   * capacity, so that terms can be added without growing the coefficient array.
+   *
+   * @param capacity the number of powers that can be stored without resizing.
+   * @throws IllegalArgumentException if the capacity is negative or too large for an array.
+   */
+  public DensePolynomial(int capacity) throws IllegalArgumentException {
+    if (capacity < 0) {
+      throw new IllegalArgumentException("capacity cannot be less than zero!!");
+    }
+    if (capacity > MAX_LENGTH) {
+      throw new IllegalArgumentException("power is too large for a dense polynomial!!");
+    }
+    this.coefficients = new long[Math.max(capacity, 1)];
+    this.degree = 0;
+  }
+
+  /**
+   * This constructor takes a polynomial as a string, parses it and creates the polynomial
+   * accordingly. The string follows the same format as the one accepted by PolynomialImpl.
+   *
+   * @param polynomial this method takes a polynomial in the form of string.
+   * @throws IllegalArgumentException if the polynomial is incorrect.
+   */
+  public DensePolynomial(String polynomial) throws IllegalArgumentException {
+    this();
+    PolynomialScanner.parse(polynomial, this::addTerm);
+  }
+
+  /**
+   * This constructor creates a dense copy of any other polynomial.
+   *
+   * @param other the polynomial to be copied.
+   * @throws IllegalArgumentException if the degree is too large for an array.
+   */
+  public DensePolynomial(Polynomial other) throws IllegalArgumentException {
+    this((int) Math.min(other.getDegree() + 1L, Integer.MAX_VALUE));
+    TermIterator terms = other.terms();
+    while (terms.next()) {
+      coefficients[terms.getPower()] = terms.getCoefficient();
+    }
+    recomputeDegree(other.getDegree());
+  }
+
+  /**
+   * This is a package private constructor that is used to wrap a coefficient array that has
+   * already been computed. The array is owned by the new polynomial from then on, and the
+   * coefficients that have overflowed are wrapped around in place.
+   *
+   * @param coefficients the coefficients indexed by power.
+   * @param degree       the highest power whose coefficient may be non-zero.
+   */
+  DensePolynomial(long[] coefficients, int degree) {
+    for (int power = 0; power <= degree; power++) {
+      coefficients[power] = Polynomials.wrap(coefficients[power]);
+    }
+    this.coefficients = coefficients;
+    recomputeDegree(degree);
+  }
+
+  /**
+   * The addition is performed by combining all the terms and adding the coefficients of the terms
+   * with the same power.
+   *
+   * @param coefficient this is the coefficient of the term.
+   * @param power       this is the power of the term.
+   * @throws IllegalArgumentException is thrown when an Illegal argument is added, or when the
+   *                                  power is too large for an array.
+   */
+  @Override
+  public void addTerm(int coefficient, int power) throws IllegalArgumentException {
+
+    if (coefficient == 0) {
+      return;
+    }
+
+    if (power < 0) {
+      throw new IllegalArgumentException("power cannot be less than zero!!");
+    }
+
+    if (power >= MAX_LENGTH) {
+      throw new IllegalArgumentException("power is too large for a dense polynomial!!");
+    }
+
+    hash = 0;
+    ensureCapacity(power + 1);
+    coefficients[power] = Polynomials.wrap(coefficients[power] + coefficient);
+
+    if (power > degree) {
+      degree = power;
+    } else if (power == degree) {
+      recomputeDegree(degree);
+    }
+  }
+
+  /**
+   * A method getCoefficient that takes a power and returns the coefficient for the term with that
+   * power.
+   *
+   * @param power this is the power of the term
+   * @return the coefficient of the term.
+   */
+  @Override
+  public int getCoefficient(int power) {
+    return (int) coefficientAt(power);
+  }
+
+  /**
+   * This method returns the coefficient of a power as it is stored, without narrowing it.
+   *
+   * @param power the power of the term.
+   * @return the coefficient of the term, or zero if there is no term with this power.
+   */
+  long coefficientAt(int power) {
+    if (power < 0 || power > degree) {
+      return 0;
+    }
+    return coefficients[power];
+  }
+
+  /**
+   * A method getDegree that returns the degree of this polynomial.
+   *
+   * @return the degree of the polynomial.
+   */
+  @Override
+  public int getDegree() {
+    return degree;
+  }
+
+  /**
+   * A method evaluate that takes a double-precision decimal number and returns a double-precision
+   * result which is the evaluation of this polynomial using this argument’s value.
+   *
+   * @param x this method takes in a variable.
+   * @return it returns the evaluated result.
+   */
+  @Override
+  public double evaluate(double x) {
+    return HornerEvaluator.evaluateDense(coefficients, degree, x);
+  }
+
+  /**
+   * A method evaluate that evaluates this polynomial at a range of values of an array and writes
+   * the results into a range of another array. The two ranges may be the same.
+   *
+   * @param xs        the values of the variable.
+   * @param xsOffset  the index of the first value in xs.
+   * @param out       the array the results are written to.
+   * @param outOffset the index in out of the first result.
+   * @param length    the number of values to be evaluated.
+   * @throws IndexOutOfBoundsException if the range does not fit in either array.
+   */
+  @Override
+  public void evaluate(double[] xs, int xsOffset, double[] out, int outOffset, int length)
+          throws IndexOutOfBoundsException {
+    HornerEvaluator.checkRange(xs, xsOffset, out, outOffset, length);
+    HornerEvaluator.evaluateDense(coefficients, degree, xs, xsOffset, out, outOffset, length);
+  }
+
+  /**
+   * A method add that takes another Polynomial object and returns the polynomial obtained by adding
+   * the two polynomials. Neither polynomial is mutated. When both polynomials are dense the
+   * coefficient arrays are added element by element.
+   *
+   * @param p2 this method takes another Polynomial as an argument.
+   * @return the result of addition of two polynomial.
+   */
+  @Override
+  public Polynomial add(Polynomial p2) {
+
+    int resultDegree = Math.max(degree, p2.getDegree());
+    long[] sum = Arrays.copyOf(coefficients, resultDegree + 1);
+
+    if (p2 instanceof DensePolynomial) {
+      DensePolynomial other = (DensePolynomial) p2;
+      for (int power = 0; power <= other.degree; power++) {
+        sum[power] += other.coefficients[power];
+      }
+    } else {
+      TermIterator terms = p2.terms();
+      while (terms.next()) {
+        sum[terms.getPower()] += terms.getCoefficient();
+      }
+    }
+
+    return new DensePolynomial(sum, resultDegree);
+  }
+
+  /**
+   * A method derivative that takes no parameters and returns the polynomial obtained by
+   * differentiating this polynomial. Each coefficient is shifted down by one power and multiplied
+   * by its old power in a single pass over the array.
+   *
+   * @return the polynomial after performing derivative.
+   */
+  @Override
+  public Polynomial derivative() {
+
+    if (degree == 0) {
+      return new DensePolynomial();
+    }
+
+    long[] result = new long[degree];
+    for (int power = 1; power <= degree; power++) {
+      result[power - 1] = coefficients[power] * power;
+    }
+
+    return new DensePolynomial(result, degree - 1);
+  }
+
+  /**
+   * A method multiply that takes another Polynomial object and returns the polynomial obtained by
+   * multiplying the two polynomials. Neither polynomial is mutated. When both polynomials are
+   * dense their coefficient arrays are multiplied directly.
+   *
+   * @param p2 this method takes another Polynomial as an argument.
+   * @return the result of multiplication of two polynomial.
+   */
+  @Override
+  public Polynomial multiply(Polynomial p2) {
+
+    if (!(p2 instanceof DensePolynomial)) {
+      return new DensePolynomial(MultiplicationEngine.SEQUENTIAL.multiply(this, p2));
+    }
+
+    DensePolynomial other = (DensePolynomial) p2;
+    long[] product = MultiplicationEngine.SEQUENTIAL.multiply(
+            Arrays.copyOf(coefficients, degree + 1), Arrays.copyOf(other.coefficients,
+                    other.degree + 1));
+
+    return new DensePolynomial(product, product.length - 1);
+  }
+
+  /**
+   * A method terms that returns an iterator over the terms of this polynomial in decreasing order
+   * of power, skipping the powers whose coefficient is zero. The iterator reads the array of this
+   * polynomial directly, so it should not be used after the polynomial has been changed.
+   *
+   * @return an iterator over the terms of the polynomial.
+   */
+  @Override
+  public TermIterator terms() {
+    return new DenseTermIterator(coefficients, degree);
+  }
+
+  /**
+   * The toString method is overridden to return the polynomial in sorted order in terms of power.
+   *
+   * @return the polynomial in the form of string.
+   */
+  @Override
+  public String toString() {
+    return PolynomialFormat.toString(terms(), degree + 1);
+  }
+
+  /**
+   * This method take in as argument a polynomial and evaluates if both the polynomials are same.
+   * Two polynomials are the same when they have the same terms, whatever their implementation.
+   *
+   * @param p2 this method takes in a polynomial as an argument.
+   * @return true if the polynomials are same else return false.
+   */
+  @Override
+  public boolean equals(Object p2) {
+    return Polynomials.equals(this, p2);
+  }
+
+  /**
+   * Any two polynomial that compare equal using the equals() method must produce the same
+   * hashCode. The hash is computed from the terms and kept until the polynomial is changed.
+   *
+   * @return the hashcode of the polynomial.
+   */
+  @Override
+  public int hashCode() {
+    if (hash == 0) {
+      hash = Polynomials.hashCode(terms());
+    }
+    return hash;
+  }
+
+  /**
+   * This method grows the coefficient array so that it can hold at least the given number of
+   * powers.
+   *
+   * @param size the number of powers that should fit in the array.
+   */
+  private void ensureCapacity(int size) {
+    if (size > coefficients.length) {
+      coefficients = Arrays.copyOf(coefficients,
+              (int) Math.min(MAX_LENGTH, Math.max(size, coefficients.length * 2L)));
+    }
+  }
+
+  /**
+   * This method moves the cached degree down past any cancelled leading coefficients.
+   *
+   * @param from the highest power that may still hold a non-zero coefficient.
+   */
+  private void recomputeDegree(int from) {
+    int power = from;
+    while (power > 0 && coefficients[power] == 0) {
+      power--;
+    }
+    degree = power;
+  }
+
+  /**
+   * This class iterates over the non-zero entries of a coefficient array from the highest power
+   * down.
+   */
+  private static class DenseTermIterator implements TermIterator {
+
+    private final long[] coefficients;
+    private int power;
+
+    /**
+     * This a constructor that is used to create the iterator.
+     *
+     * @param coefficients the coefficients indexed by power.
+     * @param degree       the highest power to be visited.
+     */
+    DenseTermIterator(long[] coefficients, int degree) {
+      this.coefficients = coefficients;
+      this.power = degree + 1;
+    }
+
+    /**
+     * This method moves the iterator onto the next term.
+     *
+     * @return true if there is a term to be read, false if all the terms have been visited.
+     */
+    @Override
+    public boolean next() {
+      do {
+        power--;
+      }
+      while (power >= 0 && coefficients[power] == 0);
+      return power >= 0;
+    }
+
+    /**
+     * This method is used to get the power of the current term.
+     *
+     * @return the power.
+     */
+    @Override
+    public int getPower() {
+      return power;
+    }
+
+    /**
+     * This method is used to get the coefficient of the current term.
+     *
+     * @return the coefficient.
+     */
+    @Override
+    public long getCoefficient() {
+      return coefficients[power];
+    }
+
+  }
+
+}
@@ -132,6 +132,16 @@ public class EmptyNode implements PolynomialNode {
     return 0;
   }
 
+  /**
+   * This is a getter method that is used to get the rest of the list after this node.
+   *
+   * @return the empty node itself, as nothing follows it.
+   */
+  @Override
+  public PolynomialNode getRest() {
+    return this;
+  }
+
 }
 
 
@@ -0,0 +1,249 @@
+package polynomial;
+
+import java.nio.ByteBuffer;
+
+/**
+ * This is an immutable polynomial that reads its terms straight from the bytes written by
+ * PolynomialCodec, without decoding them into arrays first. It is as compact as the encoded form:
+ * a typical term takes two or three bytes. The terms can only be read in decreasing order of
+ * power, so evaluating the polynomial or reading a coefficient walks the bytes from the start.
+ *
+ * <p>Any attempt to add a term throws an UnsupportedOperationException. The results of add,
+ * derivative and multiply are ordinary polynomials held in arrays.
+ */
+public final class EncodedPolynomial implements Polynomial {
+
+  private final ByteBuffer bytes;
+  private final int size;
+  private final int degree;
+  private int hash;
+
+  /**
+   * This a constructor that is used to create a polynomial over terms that have been checked.
+   *
+   * @param bytes  the encoded terms, starting at index zero.
+   * @param size   the number of terms.
+   * @param degree the highest power.
+   */
+  EncodedPolynomial(ByteBuffer bytes, int size, int degree) {
+    this.bytes = bytes;
+    this.size = size;
+    this.degree = degree;
+  }
+
+  /**
+   * An encoded polynomial cannot be changed, so this method always throws.
+   *
+   * @param coefficient this is the coefficient of the term.
+   * @param power       this is the power of the term.
+   * @throws UnsupportedOperationException always.
+   */
+  @Override
+  public void addTerm(int coefficient, int power) throws UnsupportedOperationException {
+    throw new UnsupportedOperationException("the polynomial cannot be changed");
+  }
+
+  /**
+   * A method getCoefficient that takes a power and returns the coefficient for the term with that
+   * power. The terms are read until one with a power not above the one asked for is found.
+   *
+   * @param power this is the power of the term
+   * @return the coefficient of the term.
+   */
+  @Override
+  public int getCoefficient(int power) {
+    Cursor cursor = new Cursor();
+    while (cursor.next()) {
+      if (cursor.power <= power) {
+        return cursor.power == power ? (int) cursor.coefficient : 0;
+      }
+    }
+    return 0;
+  }
+
+  /**
+   * A method getDegree that returns the degree of this polynomial.
+   *
+   * @return the degree of the polynomial.
+   */
+  @Override
+  public int getDegree() {
+    return degree;
+  }
+
+  /**
+   * A method evaluate that takes a double-precision decimal number and returns a double-precision
+   * result which is the evaluation of this polynomial using this argument’s value. The terms are
+   * decoded one by one as Horner's scheme goes down the powers.
+   *
+   * @param x this method takes in a variable.
+   * @return it returns the evaluated result.
+   */
+  @Override
+  public double evaluate(double x) {
+
+    Cursor cursor = new Cursor();
+    if (!cursor.next()) {
+      return 0;
+    }
+
+    double result = cursor.coefficient;
+    int previous = cursor.power;
+    while (cursor.next()) {
+      int gap = previous - cursor.power;
+      result = result * (gap == 1 ? x : HornerEvaluator.pow(x, gap)) + cursor.coefficient;
+      previous = cursor.power;
+    }
+
+    return previous == 0 ? result : result * HornerEvaluator.pow(x, previous);
+  }
+
+  /**
+   * A method add that takes another Polynomial object and returns the polynomial obtained by adding
+   * the two polynomials. Neither polynomial is mutated. The terms of both polynomials are merged
+   * in order of power.
+   *
+   * @param p2 this method takes another Polynomial as an argument.
+   * @return the result of addition of two polynomial.
+   */
+  @Override
+  public Polynomial add(Polynomial p2) {
+    return PersistentPolynomial.of(new TermMerger(this.terms(), p2.terms()));
+  }
+
+  /**
+   * A method derivative that takes no parameters and returns the polynomial obtained by
+   * differentiating this polynomial.
+   *
+   * @return the polynomial after performing derivative.
+   */
+  @Override
+  public Polynomial derivative() {
+    return PersistentPolynomial.of(TermLayout.of(terms()).derivative().terms());
+  }
+
+  /**
+   * A method terms that returns an iterator over the terms of this polynomial in decreasing order
+   * of power.
+   *
+   * @return an iterator over the terms of the polynomial.
+   */
+  @Override
+  public TermIterator terms() {
+    return new Cursor();
+  }
+
+  /**
+   * This method returns the number of bytes taken by the terms.
+   *
+   * @return the number of bytes.
+   */
+  public int encodedLength() {
+    return bytes.limit();
+  }
+
+  /**
+   * The toString method is overridden to return the polynomial in sorted order in terms of power.
+   *
+   * @return the polynomial in the form of string.
+   */
+  @Override
+  public String toString() {
+    return PolynomialFormat.toString(terms(), size);
+  }
+
+  /**
+   * This method take in as argument a polynomial and evaluates if both the polynomials are same.
+   * Two polynomials are the same when they have the same terms, whatever their implementation.
+   *
+   * @param p2 this method takes in a polynomial as an argument.
+   * @return true if the polynomials are same else return false.
+   */
+  @Override
+  public boolean equals(Object p2) {
+    return Polynomials.equals(this, p2);
+  }
+
+  /**
+   * Any two polynomial that compare equal using the equals() method must produce the same
+   * hashCode. The hash is computed from the terms the first time it is needed.
+   *
+   * @return the hashcode of the polynomial.
+   */
+  @Override
+  public int hashCode() {
+    if (hash == 0) {
+      hash = Polynomials.hashCode(terms());
+    }
+    return hash;
+  }
+
+  /**
+   * This class decodes the terms one at a time. It reads the bytes at absolute indexes, so several
+   * cursors can walk the same bytes at the same time.
+   */
+  private final class Cursor implements TermIterator {
+
+    private int position;
+    private int remaining = size;
+    private int power;
+    private long coefficient;
+
+    /**
+     * This method moves the cursor onto the next term.
+     *
+     * @return true if there is a term to be read, false if all the terms have been visited.
+     */
+    @Override
+    public boolean next() {
+      if (remaining == 0) {
+        return false;
+      }
+      int delta = (int) varint();
+      power = (remaining == size) ? delta : power - delta;
+      coefficient = PolynomialCodec.unzigzag(varint());
+      remaining--;
+      return true;
+    }
+
+    /**
+     * This method is used to get the power of the current term.
+     *
+     * @return the power.
+     */
+    @Override
+    public int getPower() {
+      return power;
+    }
+
+    /**
+     * This method is used to get the coefficient of the current term.
+     *
+     * @return the coefficient.
+     */
+    @Override
+    public long getCoefficient() {
+      return coefficient;
+    }
+
+    /**
+     * This method reads the varint at the position of the cursor and moves past it.
+     *
+     * @return the number, read as unsigned.
+     */
+    private long varint() {
+      long value = 0;
+      int shift = 0;
+      byte b;
+      do {
+        b = bytes.get(position++);
+        value |= (long) (b & 0x7F) << shift;
+        shift += 7;
+      }
+      while (b < 0);
+      return value;
+    }
+
+  }
+
+}
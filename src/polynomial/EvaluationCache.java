@@ -0,0 +1,88 @@
+package polynomial;
+
+import java.util.Arrays;
+
+/**
+ * This class remembers the values of a polynomial at recently used points. The points are keyed
+ * on the bits of the double, so a point is only found again when it is exactly the same value.
+ * Every point has a single slot it can be kept in, and a new point simply replaces the point that
+ * was kept in its slot, so a lookup costs a multiplication and one array access. Forgetting every
+ * value only moves the cache on to a new generation, so it takes constant time.
+ *
+ * <p>The cache is not thread-safe.
+ */
+final class EvaluationCache {
+
+  private final long[] keys;
+  private final double[] values;
+  private final int[] generations;
+  private final int shift;
+  private int generation;
+  private long hitCount;
+  private long missCount;
+  private long evictionCount;
+
+  /**
+   * This a constructor that is used to create an empty cache.
+   *
+   * @param capacity the number of points kept, which is rounded up to a power of two.
+   */
+  EvaluationCache(int capacity) {
+    int size = (int) Math.min(Long.highestOneBit(Math.max(capacity - 1L, 1L)) << 1, 1 << 30);
+    this.keys = new long[size];
+    this.values = new double[size];
+    this.generations = new int[size];
+    this.shift = 64 - Integer.numberOfTrailingZeros(size);
+    this.generation = 1;
+  }
+
+  /**
+   * This method returns the value of a polynomial at a point, evaluating it only if the point is
+   * not in the cache.
+   *
+   * @param x      the value of the variable.
+   * @param layout the terms of the polynomial.
+   * @return the value of the polynomial at x.
+   */
+  double evaluate(double x, TermLayout layout) {
+
+    long bits = Double.doubleToRawLongBits(x);
+    int slot = (int) ((bits * 0x9E3779B97F4A7C15L) >>> shift);
+
+    if (generations[slot] == generation) {
+      if (keys[slot] == bits) {
+        hitCount++;
+        return values[slot];
+      }
+      evictionCount++;
+    }
+
+    missCount++;
+    double value = layout.evaluate(x);
+    keys[slot] = bits;
+    values[slot] = value;
+    generations[slot] = generation;
+    return value;
+  }
+
+  /**
+   * This method forgets every value kept, as the polynomial has been changed.
+   */
+  void invalidate() {
+    generation++;
+    if (generation == 0) {
+      Arrays.fill(generations, 0);
+      generation = 1;
+    }
+  }
+
+  /**
+   * This method returns the counters of the cache as they are now.
+   *
+   * @return the hits, misses and evictions counted so far.
+   */
+  CacheStats stats() {
+    return new CacheStats(hitCount, missCount, evictionCount);
+  }
+
+}
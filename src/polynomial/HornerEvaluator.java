@@ -0,0 +1,257 @@
+package polynomial;
+
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+
+/**
+ * This class evaluates polynomials stored as primitive coefficient arrays using Horner's scheme,
+ * so a polynomial of degree n is evaluated with n multiplications and n additions instead of one
+ * call to Math.pow per term. None of the methods allocate, which keeps each evaluation a tight loop
+ * over the arrays.
+ */
+final class HornerEvaluator {
+
+  /**
+   * This is a private constructor as the class only holds static methods.
+   */
+  private HornerEvaluator() {
+  }
+
+  /**
+   * This method evaluates a polynomial whose coefficients are indexed by power.
+   *
+   * @param coefficients the coefficients indexed by power.
+   * @param degree       the highest power to be evaluated.
+   * @param x            the value of the variable.
+   * @return the value of the polynomial at x.
+   */
+  static double evaluateDense(long[] coefficients, int degree, double x) {
+    double result = 0;
+    for (int power = degree; power >= 0; power--) {
+      result = result * x + coefficients[power];
+    }
+    return result;
+  }
+
+  /**
+   * This method evaluates a polynomial whose terms are stored in two parallel arrays sorted by
+   * increasing power. The gap between two consecutive powers is bridged with a single power of x
+   * computed by repeated squaring, so sparse polynomials of a very high degree only cost a few
+   * multiplications per term.
+   *
+   * @param powers       the powers sorted in increasing order.
+   * @param coefficients the coefficient of each power.
+   * @param size         the number of terms stored in the arrays.
+   * @param x            the value of the variable.
+   * @return the value of the polynomial at x.
+   */
+  static double evaluateSparse(int[] powers, long[] coefficients, int size, double x) {
+
+    if (size == 0) {
+      return 0;
+    }
+
+    double result = coefficients[size - 1];
+    for (int i = size - 2; i >= 0; i--) {
+      int gap = powers[i + 1] - powers[i];
+      result = result * (gap == 1 ? x : pow(x, gap)) + coefficients[i];
+    }
+
+    return powers[0] == 0 ? result : result * pow(x, powers[0]);
+  }
+
+  /**
+   * This method evaluates a polynomial whose coefficients are indexed by power at many points. The
+   * points are processed four at a time so that four independent Horner chains are in flight in
+   * the inner loop, instead of each multiply waiting on the one before it. Each output is written
+   * only after its input has been read, so the input and output ranges may be the same.
+   *
+   * @param coefficients the coefficients indexed by power.
+   * @param degree       the highest power to be evaluated.
+   * @param xs           the values of the variable.
+   * @param xsOffset     the index of the first value in xs.
+   * @param out          the array the results are written to.
+   * @param outOffset    the index in out of the first result.
+   * @param length       the number of values to be evaluated.
+   */
+  static void evaluateDense(long[] coefficients, int degree, double[] xs, int xsOffset,
+                            double[] out, int outOffset, int length) {
+
+    int i = 0;
+    for (; i + 4 <= length; i += 4) {
+      double x0 = xs[xsOffset + i];
+      double x1 = xs[xsOffset + i + 1];
+      double x2 = xs[xsOffset + i + 2];
+      double x3 = xs[xsOffset + i + 3];
+      double r0 = 0;
+      double r1 = 0;
+      double r2 = 0;
+      double r3 = 0;
+      for (int power = degree; power >= 0; power--) {
+        double c = coefficients[power];
+        r0 = r0 * x0 + c;
+        r1 = r1 * x1 + c;
+        r2 = r2 * x2 + c;
+        r3 = r3 * x3 + c;
+      }
+      out[outOffset + i] = r0;
+      out[outOffset + i + 1] = r1;
+      out[outOffset + i + 2] = r2;
+      out[outOffset + i + 3] = r3;
+    }
+
+    for (; i < length; i++) {
+      out[outOffset + i] = evaluateDense(coefficients, degree, xs[xsOffset + i]);
+    }
+  }
+
+  /**
+   * This method evaluates a polynomial whose coefficients are held in a buffer indexed by power,
+   * reading them in place.
+   *
+   * @param coefficients the coefficients indexed by power.
+   * @param degree       the highest power to be evaluated.
+   * @param x            the value of the variable.
+   * @return the value of the polynomial at x.
+   */
+  static double evaluateDense(LongBuffer coefficients, int degree, double x) {
+    double result = 0;
+    for (int power = degree; power >= 0; power--) {
+      result = result * x + coefficients.get(power);
+    }
+    return result;
+  }
+
+  /**
+   * This method evaluates a polynomial whose coefficients are held in a buffer indexed by power at
+   * many points, four at a time in the same way as for an array. Each coefficient is read once
+   * for every four points.
+   *
+   * @param coefficients the coefficients indexed by power.
+   * @param degree       the highest power to be evaluated.
+   * @param xs           the values of the variable.
+   * @param xsOffset     the index of the first value in xs.
+   * @param out          the array the results are written to.
+   * @param outOffset    the index in out of the first result.
+   * @param length       the number of values to be evaluated.
+   */
+  static void evaluateDense(LongBuffer coefficients, int degree, double[] xs, int xsOffset,
+                            double[] out, int outOffset, int length) {
+
+    int i = 0;
+    for (; i + 4 <= length; i += 4) {
+      double x0 = xs[xsOffset + i];
+      double x1 = xs[xsOffset + i + 1];
+      double x2 = xs[xsOffset + i + 2];
+      double x3 = xs[xsOffset + i + 3];
+      double r0 = 0;
+      double r1 = 0;
+      double r2 = 0;
+      double r3 = 0;
+      for (int power = degree; power >= 0; power--) {
+        double c = coefficients.get(power);
+        r0 = r0 * x0 + c;
+        r1 = r1 * x1 + c;
+        r2 = r2 * x2 + c;
+        r3 = r3 * x3 + c;
+      }
+      out[outOffset + i] = r0;
+      out[outOffset + i + 1] = r1;
+      out[outOffset + i + 2] = r2;
+      out[outOffset + i + 3] = r3;
+    }
+
+    for (; i < length; i++) {
+      out[outOffset + i] = evaluateDense(coefficients, degree, xs[xsOffset + i]);
+    }
+  }
+
+  /**
+   * This method evaluates a polynomial whose terms are stored in two parallel arrays sorted by
+   * increasing power at many points. Each output is written only after its input has been read, so
+   * the input and output ranges may be the same.
+   *
+   * @param powers       the powers sorted in increasing order.
+   * @param coefficients the coefficient of each power.
+   * @param size         the number of terms stored in the arrays.
+   * @param xs           the values of the variable.
+   * @param xsOffset     the index of the first value in xs.
+   * @param out          the array the results are written to.
+   * @param outOffset    the index in out of the first result.
+   * @param length       the number of values to be evaluated.
+   */
+  static void evaluateSparse(int[] powers, long[] coefficients, int size, double[] xs,
+                             int xsOffset, double[] out, int outOffset, int length) {
+    for (int i = 0; i < length; i++) {
+      out[outOffset + i] = evaluateSparse(powers, coefficients, size, xs[xsOffset + i]);
+    }
+  }
+
+  /**
+   * This method evaluates a polynomial whose terms are held in two buffers sorted by decreasing
+   * power, reading them in place. Powers that are missing between two terms are skipped in one
+   * step by raising x to the gap.
+   *
+   * @param powers       the powers sorted in decreasing order.
+   * @param coefficients the coefficient of each power.
+   * @param size         the number of terms stored in the buffers.
+   * @param x            the value of the variable.
+   * @return the value of the polynomial at x.
+   */
+  static double evaluateSparse(IntBuffer powers, LongBuffer coefficients, int size, double x) {
+
+    if (size == 0) {
+      return 0;
+    }
+
+    double result = coefficients.get(0);
+    for (int i = 1; i < size; i++) {
+      int gap = powers.get(i - 1) - powers.get(i);
+      result = result * (gap == 1 ? x : pow(x, gap)) + coefficients.get(i);
+    }
+
+    int lowest = powers.get(size - 1);
+    return lowest == 0 ? result : result * pow(x, lowest);
+  }
+
+  /**
+   * This method checks that a range of a batch evaluation lies within both arrays.
+   *
+   * @param xs        the values of the variable.
+   * @param xsOffset  the index of the first value in xs.
+   * @param out       the array the results are written to.
+   * @param outOffset the index in out of the first result.
+   * @param length    the number of values to be evaluated.
+   * @throws IndexOutOfBoundsException if the range does not fit in either array.
+   */
+  static void checkRange(double[] xs, int xsOffset, double[] out, int outOffset, int length)
+          throws IndexOutOfBoundsException {
+    if (length < 0 || xsOffset < 0 || outOffset < 0
+            || xsOffset > xs.length - length || outOffset > out.length - length) {
+      throw new IndexOutOfBoundsException("the range does not fit in the arrays");
+    }
+  }
+
+  /**
+   * This method raises x to a non-negative integer power by repeated squaring.
+   *
+   * @param x     the base.
+   * @param power the exponent, which cannot be negative.
+   * @return x raised to the given power.
+   */
+  static double pow(double x, int power) {
+    double result = 1;
+    double square = x;
+    while (power != 0) {
+      if ((power & 1) != 0) {
+        result *= square;
+      }
+      power >>>= 1;
+      if (power != 0) {
+        square *= square;
+      }
+    }
+    return result;
+  }
+
+}
@@ -0,0 +1,18 @@
+package polynomial;
+
+/**
+ * A LayoutPolynomial is a polynomial that keeps the sorted layout of its terms, so that the other
+ * classes of the package can share the layout instead of copying the terms. An implementation
+ * that keeps such a layout only has to implement this interface for TermLayout.of to use it.
+ */
+interface LayoutPolynomial extends Polynomial {
+
+  /**
+   * This method returns the terms of this polynomial sorted by power in primitive arrays. The
+   * layout must not be changed by the caller.
+   *
+   * @return the sorted layout of the terms.
+   */
+  public TermLayout layout();
+
+}
@@ -0,0 +1,143 @@
+package polynomial;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.ToLongBiFunction;
+
+/**
+ * This class is a map of bounded size that drops its least recently used entries when a new entry
+ * does not fit. The map can be bounded both by its number of entries and by the total weight of
+ * its entries. The entries are kept in a LinkedHashMap in access order, which is not exposed, so
+ * every change goes through the methods below and the weight always matches the entries. It is
+ * not thread-safe, so the caches that use it guard it themselves.
+ *
+ * @param <K> the type of the keys.
+ * @param <V> the type of the values.
+ */
+final class LruCache<K, V> {
+
+  private final LinkedHashMap<K, V> entries;
+  private final int capacity;
+  private final long maxWeight;
+  private final ToLongBiFunction<K, V> weigher;
+  private long weight;
+  private long evictionCount;
+
+  /**
+   * This a constructor that is used to create an empty cache bounded by its number of entries.
+   *
+   * @param capacity the largest number of entries kept.
+   */
+  LruCache(int capacity) {
+    this(capacity, Long.MAX_VALUE, (key, value) -> 0L);
+  }
+
+  /**
+   * This a constructor that is used to create an empty cache bounded by its number of entries and
+   * by their total weight.
+   *
+   * @param capacity  the largest number of entries kept.
+   * @param maxWeight the largest total weight of the entries kept.
+   * @param weigher   the function giving the weight of an entry.
+   */
+  LruCache(int capacity, long maxWeight, ToLongBiFunction<K, V> weigher) {
+    this.entries = new LinkedHashMap<>(16, 0.75f, true);
+    this.capacity = capacity;
+    this.maxWeight = maxWeight;
+    this.weigher = weigher;
+  }
+
+  /**
+   * This method returns the value stored for a key and marks the entry as the most recently used.
+   *
+   * @param key the key.
+   * @return the value stored for the key, or null if there is none.
+   */
+  V get(K key) {
+    return entries.get(key);
+  }
+
+  /**
+   * This method stores a value for a key and then drops the least recently used entries until
+   * both the number of entries and their total weight fit again. An entry heavier than the
+   * maximum weight is not kept at all.
+   *
+   * @param key   the key.
+   * @param value the value.
+   * @return the value stored for the key before, or null if there was none.
+   */
+  V put(K key, V value) {
+
+    long entryWeight = weigher.applyAsLong(key, value);
+    if (entryWeight > maxWeight) {
+      return remove(key);
+    }
+
+    V old = entries.put(key, value);
+    weight += entryWeight;
+    if (old != null) {
+      weight -= weigher.applyAsLong(key, old);
+    }
+
+    Iterator<Map.Entry<K, V>> eldest = entries.entrySet().iterator();
+    while ((entries.size() > capacity || weight > maxWeight) && eldest.hasNext()) {
+      Map.Entry<K, V> entry = eldest.next();
+      weight -= weigher.applyAsLong(entry.getKey(), entry.getValue());
+      eldest.remove();
+      evictionCount++;
+    }
+
+    return old;
+  }
+
+  /**
+   * This method removes the entry of a key.
+   *
+   * @param key the key.
+   * @return the value stored for the key, or null if there was none.
+   */
+  V remove(K key) {
+    V old = entries.remove(key);
+    if (old != null) {
+      weight -= weigher.applyAsLong(key, old);
+    }
+    return old;
+  }
+
+  /**
+   * This method removes every entry.
+   */
+  void clear() {
+    entries.clear();
+    weight = 0;
+  }
+
+  /**
+   * This method is used to get the number of entries.
+   *
+   * @return the number of entries.
+   */
+  int size() {
+    return entries.size();
+  }
+
+  /**
+   * This method is used to get the total weight of the entries.
+   *
+   * @return the total weight.
+   */
+  long weight() {
+    return weight;
+  }
+
+  /**
+   * This method is used to get the number of entries dropped since the cache was created.
+   *
+   * @return the number of evictions.
+   */
+  long evictionCount() {
+    return evictionCount;
+  }
+
+}
@@ -0,0 +1,222 @@
+package polynomial;
+
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+
+/**
+ * This is an immutable view of a polynomial stored in a PolynomialStore. The terms are read
+ * straight from the mapped file each time they are needed: nothing is parsed or copied when the
+ * view is created, and evaluating it or reading a coefficient only touches the pages of the file
+ * holding its terms. The terms are kept sorted by decreasing power, so a coefficient is found by
+ * a binary search.
+ *
+ * <p>Any attempt to add a term throws an UnsupportedOperationException. The results of add,
+ * derivative and multiply are ordinary polynomials held on the heap.
+ */
+public final class MappedPolynomial implements Polynomial {
+
+  private final IntBuffer powers;
+  private final LongBuffer coefficients;
+  private final int size;
+  private int hash;
+
+  /**
+   * This a constructor that is used to create a view of the terms of a stored polynomial.
+   *
+   * @param powers       the powers sorted in decreasing order.
+   * @param coefficients the coefficient of each power.
+   * @param size         the number of terms.
+   */
+  MappedPolynomial(IntBuffer powers, LongBuffer coefficients, int size) {
+    this.powers = powers;
+    this.coefficients = coefficients;
+    this.size = size;
+  }
+
+  /**
+   * A stored polynomial cannot be changed, so this method always throws.
+   *
+   * @param coefficient this is the coefficient of the term.
+   * @param power       this is the power of the term.
+   * @throws UnsupportedOperationException always.
+   */
+  @Override
+  public void addTerm(int coefficient, int power) throws UnsupportedOperationException {
+    throw new UnsupportedOperationException("the polynomial cannot be changed");
+  }
+
+  /**
+   * A method getCoefficient that takes a power and returns the coefficient for the term with that
+   * power.
+   *
+   * @param power this is the power of the term
+   * @return the coefficient of the term.
+   */
+  @Override
+  public int getCoefficient(int power) {
+
+    int low = 0;
+    int high = size - 1;
+    while (low <= high) {
+      int middle = (low + high) >>> 1;
+      int current = powers.get(middle);
+      if (current > power) {
+        low = middle + 1;
+      } else if (current < power) {
+        high = middle - 1;
+      } else {
+        return (int) coefficients.get(middle);
+      }
+    }
+    return 0;
+  }
+
+  /**
+   * A method getDegree that returns the degree of this polynomial.
+   *
+   * @return the degree of the polynomial.
+   */
+  @Override
+  public int getDegree() {
+    return size == 0 ? 0 : powers.get(0);
+  }
+
+  /**
+   * A method evaluate that takes a double-precision decimal number and returns a double-precision
+   * result which is the evaluation of this polynomial using this argument’s value.
+   *
+   * @param x this method takes in a variable.
+   * @return it returns the evaluated result.
+   */
+  @Override
+  public double evaluate(double x) {
+    return HornerEvaluator.evaluateSparse(powers, coefficients, size, x);
+  }
+
+  /**
+   * A method evaluate that evaluates this polynomial at a range of values of an array and writes
+   * the results into a range of another array. The two ranges may be the same.
+   *
+   * @param xs        the values of the variable.
+   * @param xsOffset  the index of the first value in xs.
+   * @param out       the array the results are written to.
+   * @param outOffset the index in out of the first result.
+   * @param length    the number of values to be evaluated.
+   * @throws IndexOutOfBoundsException if the range does not fit in either array.
+   */
+  @Override
+  public void evaluate(double[] xs, int xsOffset, double[] out, int outOffset, int length)
+          throws IndexOutOfBoundsException {
+    HornerEvaluator.checkRange(xs, xsOffset, out, outOffset, length);
+    for (int i = 0; i < length; i++) {
+      out[outOffset + i] = HornerEvaluator.evaluateSparse(powers, coefficients, size,
+              xs[xsOffset + i]);
+    }
+  }
+
+  /**
+   * A method add that takes another Polynomial object and returns the polynomial obtained by adding
+   * the two polynomials. Neither polynomial is mutated. The terms of both polynomials are merged
+   * in order of power.
+   *
+   * @param p2 this method takes another Polynomial as an argument.
+   * @return the result of addition of two polynomial.
+   */
+  @Override
+  public Polynomial add(Polynomial p2) {
+    return PersistentPolynomial.of(new TermMerger(this.terms(), p2.terms()));
+  }
+
+  /**
+   * A method derivative that takes no parameters and returns the polynomial obtained by
+   * differentiating this polynomial.
+   *
+   * @return the polynomial after performing derivative.
+   */
+  @Override
+  public Polynomial derivative() {
+    return PersistentPolynomial.of(TermLayout.of(terms()).derivative().terms());
+  }
+
+  /**
+   * A method terms that returns an iterator over the terms of this polynomial in decreasing order
+   * of power.
+   *
+   * @return an iterator over the terms of the polynomial.
+   */
+  @Override
+  public TermIterator terms() {
+
+    return new TermIterator() {
+
+      private int index = -1;
+
+      /**
+       * This method moves the iterator onto the next term.
+       *
+       * @return true if there is a term to be read, false if all the terms have been visited.
+       */
+      @Override
+      public boolean next() {
+        return ++index < size;
+      }
+
+      /**
+       * This method is used to get the power of the current term.
+       *
+       * @return the power.
+       */
+      @Override
+      public int getPower() {
+        return powers.get(index);
+      }
+
+      /**
+       * This method is used to get the coefficient of the current term.
+       *
+       * @return the coefficient.
+       */
+      @Override
+      public long getCoefficient() {
+        return coefficients.get(index);
+      }
+    };
+  }
+
+  /**
+   * The toString method is overridden to return the polynomial in sorted order in terms of power.
+   *
+   * @return the polynomial in the form of string.
+   */
+  @Override
+  public String toString() {
+    return PolynomialFormat.toString(terms(), size);
+  }
+
+  /**
+   * This method take in as argument a polynomial and evaluates if both the polynomials are same.
+   * Two polynomials are the same when they have the same terms, whatever their implementation.
+   *
+   * @param p2 this method takes in a polynomial as an argument.
+   * @return true if the polynomials are same else return false.
+   */
+  @Override
+  public boolean equals(Object p2) {
+    return Polynomials.equals(this, p2);
+  }
+
+  /**
+   * Any two polynomial that compare equal using the equals() method must produce the same
+   * hashCode. The hash is computed from the terms the first time it is needed.
+   *
+   * @return the hashcode of the polynomial.
+   */
+  @Override
+  public int hashCode() {
+    if (hash == 0) {
+      hash = Polynomials.hashCode(terms());
+    }
+    return hash;
+  }
+
+}
@@ -0,0 +1,425 @@
+package polynomial;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * This class multiplies polynomials, picking the algorithm from the size of the operands. Small
+ * products use the schoolbook method, medium ones Karatsuba's method, and large dense products
+ * are computed as a convolution through the fast Fourier transform whenever the result can be
+ * rounded back to exact integers. Polynomials whose degree is much larger than their number of
+ * terms are multiplied term by term instead.
+ *
+ * <p>When created with a fork/join pool, the three half-size products of each Karatsuba split are
+ * computed in parallel.
+ */
+public class MultiplicationEngine {
+
+  static final MultiplicationEngine SEQUENTIAL = new MultiplicationEngine();
+
+  private static final int KARATSUBA_THRESHOLD = 32;
+  private static final int FFT_THRESHOLD = 1024;
+  private static final int PARALLEL_THRESHOLD = 2048;
+  private static final long FFT_EXACT_BOUND = 1L << 40;
+  private static final int MAX_DENSE_LENGTH = 1 << 28;
+  private static final int MAX_LENGTH = Integer.MAX_VALUE - 8;
+
+  private final ForkJoinPool pool;
+
+  /**
+   * This the default constructor that creates an engine running in the calling thread.
+   */
+  public MultiplicationEngine() {
+    this.pool = null;
+  }
+
+  /**
+   * This constructor creates an engine that splits large Karatsuba products across a pool.
+   *
+   * @param pool the pool the products run on.
+   */
+  public MultiplicationEngine(ForkJoinPool pool) {
+    this.pool = pool;
+  }
+
+  /**
+   * This method multiplies two polynomials. The product is stored densely when its degree is
+   * small compared to the number of term products, and sparsely otherwise. Coefficients wrap
+   * around like int arithmetic, but powers cannot, so a product whose degree does not fit in an int
+   * is rejected, and so is a sparse product with more term products than an array can hold.
+   *
+   * @param p1 the first polynomial.
+   * @param p2 the second polynomial.
+   * @return the product of the two polynomials.
+   * @throws IllegalArgumentException if the product is too large.
+   */
+  public Polynomial multiply(Polynomial p1, Polynomial p2) throws IllegalArgumentException {
+    return multiply(TermLayout.of(p1), TermLayout.of(p2));
+  }
+
+  /**
+   * This method multiplies two polynomials given by the layouts of their terms.
+   *
+   * @param first  the terms of the first polynomial.
+   * @param second the terms of the second polynomial.
+   * @return the product of the two polynomials.
+   * @throws IllegalArgumentException if the product is too large.
+   */
+  Polynomial multiply(TermLayout first, TermLayout second) throws IllegalArgumentException {
+
+    if (first.size() == 0 || second.size() == 0) {
+      return new SparsePolynomial();
+    }
+
+    long length = (long) first.degree() + second.degree() + 1;
+    if (length > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException("the degree of the product is too large!!");
+    }
+
+    if (length <= MAX_DENSE_LENGTH && length <= 8L * first.size() * second.size()) {
+      long[] product = multiply(toDense(first, first.degree()), toDense(second, second.degree()));
+      return new DensePolynomial(product, product.length - 1);
+    }
+
+    if ((long) first.size() * second.size() > MAX_LENGTH) {
+      throw new IllegalArgumentException("the product has too many terms!!");
+    }
+
+    return multiplySparse(first, second);
+  }
+
+  /**
+   * This method multiplies two polynomials given as coefficient arrays indexed by power.
+   *
+   * @param a the coefficients of the first polynomial.
+   * @param b the coefficients of the second polynomial.
+   * @return the coefficients of the product, indexed by power.
+   * @throws IllegalArgumentException if the product is too large for an array.
+   */
+  public long[] multiply(long[] a, long[] b) throws IllegalArgumentException {
+
+    if (a.length == 0 || b.length == 0) {
+      return new long[0];
+    }
+
+    if ((long) a.length + b.length - 1 > MAX_LENGTH) {
+      throw new IllegalArgumentException("the degree of the product is too large!!");
+    }
+
+    long[] product = new long[a.length + b.length - 1];
+
+    if (Math.min(a.length, b.length) < KARATSUBA_THRESHOLD) {
+      schoolbook(a, 0, a.length, b, 0, b.length, product, 0);
+      return product;
+    }
+
+    if (product.length >= FFT_THRESHOLD && fft(a, b, product)) {
+      return product;
+    }
+
+    if (pool == null) {
+      multiplyInto(a, 0, a.length, b, 0, b.length, product, 0);
+    } else {
+      pool.invoke(ForkJoinTask.adapt(() ->
+              multiplyInto(a, 0, a.length, b, 0, b.length, product, 0)));
+    }
+
+    return product;
+  }
+
+  /**
+   * This method adds the product of two slices into a slice of the output, using Karatsuba's
+   * method on equal length pieces.
+   *
+   * @param a      the first operand.
+   * @param aFrom  the index of the first coefficient of the first slice.
+   * @param aLen   the length of the first slice.
+   * @param b      the second operand.
+   * @param bFrom  the index of the first coefficient of the second slice.
+   * @param bLen   the length of the second slice.
+   * @param out    the array the product is added to.
+   * @param outOff the index in out of the constant term of the product.
+   */
+  private void multiplyInto(long[] a, int aFrom, int aLen, long[] b, int bFrom, int bLen,
+                            long[] out, int outOff) {
+
+    if (Math.min(aLen, bLen) < KARATSUBA_THRESHOLD) {
+      schoolbook(a, aFrom, aLen, b, bFrom, bLen, out, outOff);
+      return;
+    }
+
+    if (aLen < bLen) {
+      multiplyInto(b, bFrom, bLen, a, aFrom, aLen, out, outOff);
+      return;
+    }
+
+    if (aLen > bLen) {
+      for (int chunk = 0; chunk < aLen; chunk += bLen) {
+        multiplyInto(a, aFrom + chunk, Math.min(bLen, aLen - chunk), b, bFrom, bLen,
+                out, outOff + chunk);
+      }
+      return;
+    }
+
+    int n = aLen;
+    int low = n / 2;
+    int high = n - low;
+
+    long[] aSum = Arrays.copyOfRange(a, aFrom + low, aFrom + n);
+    long[] bSum = Arrays.copyOfRange(b, bFrom + low, bFrom + n);
+    for (int i = 0; i < low; i++) {
+      aSum[i] += a[aFrom + i];
+      bSum[i] += b[bFrom + i];
+    }
+
+    long[] z0 = new long[2 * low - 1];
+    long[] z1 = new long[2 * high - 1];
+    long[] z2 = new long[2 * high - 1];
+
+    if (pool != null && n >= PARALLEL_THRESHOLD) {
+      ForkJoinTask.invokeAll(
+          ForkJoinTask.adapt(() -> multiplyInto(a, aFrom, low, b, bFrom, low, z0, 0)),
+          ForkJoinTask.adapt(() -> multiplyInto(aSum, 0, high, bSum, 0, high, z1, 0)),
+          ForkJoinTask.adapt(() -> multiplyInto(a, aFrom + low, high, b, bFrom + low, high,
+                  z2, 0)));
+    } else {
+      multiplyInto(a, aFrom, low, b, bFrom, low, z0, 0);
+      multiplyInto(aSum, 0, high, bSum, 0, high, z1, 0);
+      multiplyInto(a, aFrom + low, high, b, bFrom + low, high, z2, 0);
+    }
+
+    for (int i = 0; i < z0.length; i++) {
+      out[outOff + i] += z0[i];
+      z1[i] -= z0[i];
+    }
+    for (int i = 0; i < z2.length; i++) {
+      out[outOff + 2 * low + i] += z2[i];
+      z1[i] -= z2[i];
+    }
+    for (int i = 0; i < z1.length; i++) {
+      out[outOff + low + i] += z1[i];
+    }
+  }
+
+  /**
+   * This method adds the product of two slices into a slice of the output by multiplying every
+   * pair of coefficients.
+   *
+   * @param a      the first operand.
+   * @param aFrom  the index of the first coefficient of the first slice.
+   * @param aLen   the length of the first slice.
+   * @param b      the second operand.
+   * @param bFrom  the index of the first coefficient of the second slice.
+   * @param bLen   the length of the second slice.
+   * @param out    the array the product is added to.
+   * @param outOff the index in out of the constant term of the product.
+   */
+  private static void schoolbook(long[] a, int aFrom, int aLen, long[] b, int bFrom, int bLen,
+                                 long[] out, int outOff) {
+    for (int i = 0; i < aLen; i++) {
+      long coefficient = a[aFrom + i];
+      if (coefficient == 0) {
+        continue;
+      }
+      for (int j = 0; j < bLen; j++) {
+        out[outOff + i + j] += coefficient * b[bFrom + j];
+      }
+    }
+  }
+
+  /**
+   * This method computes the product as a convolution through the fast Fourier transform. The
+   * transform is only used when the coefficients are small enough for every result to be rounded
+   * back to the exact integer, and the rounding is checked again afterwards.
+   *
+   * @param a       the coefficients of the first polynomial.
+   * @param b       the coefficients of the second polynomial.
+   * @param product the array the product is written to.
+   * @return true if the product was computed, false if it has to be computed exactly instead.
+   */
+  private static boolean fft(long[] a, long[] b, long[] product) {
+
+    long maxA = maxAbs(a);
+    long maxB = maxAbs(b);
+    long terms = Math.min(a.length, b.length);
+    if (maxA != 0 && maxB != 0 && (maxA > FFT_EXACT_BOUND / maxB
+            || maxA * maxB > FFT_EXACT_BOUND / terms)) {
+      return false;
+    }
+
+    int n = Integer.highestOneBit(product.length - 1) << 1;
+    double[] aRe = new double[n];
+    double[] aIm = new double[n];
+    double[] bRe = new double[n];
+    double[] bIm = new double[n];
+    for (int i = 0; i < a.length; i++) {
+      aRe[i] = a[i];
+    }
+    for (int i = 0; i < b.length; i++) {
+      bRe[i] = b[i];
+    }
+
+    double[] cos = new double[n / 2];
+    double[] sin = new double[n / 2];
+    for (int i = 0; i < n / 2; i++) {
+      double angle = 2 * Math.PI * i / n;
+      cos[i] = Math.cos(angle);
+      sin[i] = Math.sin(angle);
+    }
+
+    transform(aRe, aIm, cos, sin, false);
+    transform(bRe, bIm, cos, sin, false);
+    for (int i = 0; i < n; i++) {
+      double re = aRe[i] * bRe[i] - aIm[i] * bIm[i];
+      aIm[i] = aRe[i] * bIm[i] + aIm[i] * bRe[i];
+      aRe[i] = re;
+    }
+    transform(aRe, aIm, cos, sin, true);
+
+    for (int i = 0; i < product.length; i++) {
+      double value = aRe[i] / n;
+      long rounded = Math.round(value);
+      if (Math.abs(value - rounded) > 0.25) {
+        return false;
+      }
+      product[i] = rounded;
+    }
+
+    return true;
+  }
+
+  /**
+   * This method runs an in-place iterative radix-2 fast Fourier transform. The inverse transform
+   * is not scaled.
+   *
+   * @param re      the real parts, whose length is a power of two.
+   * @param im      the imaginary parts.
+   * @param cos     the cosines of the roots of unity.
+   * @param sin     the sines of the roots of unity.
+   * @param inverse true for the inverse transform.
+   */
+  private static void transform(double[] re, double[] im, double[] cos, double[] sin,
+                                boolean inverse) {
+
+    int n = re.length;
+
+    for (int i = 1, j = 0; i < n; i++) {
+      int bit = n >> 1;
+      for (; (j & bit) != 0; bit >>= 1) {
+        j ^= bit;
+      }
+      j ^= bit;
+      if (i < j) {
+        double t = re[i];
+        re[i] = re[j];
+        re[j] = t;
+        t = im[i];
+        im[i] = im[j];
+        im[j] = t;
+      }
+    }
+
+    for (int len = 2; len <= n; len <<= 1) {
+      int half = len >> 1;
+      int stride = n / len;
+      for (int start = 0; start < n; start += len) {
+        for (int k = 0; k < half; k++) {
+          double wRe = cos[k * stride];
+          double wIm = inverse ? sin[k * stride] : -sin[k * stride];
+          int u = start + k;
+          int v = u + half;
+          double tRe = re[v] * wRe - im[v] * wIm;
+          double tIm = re[v] * wIm + im[v] * wRe;
+          re[v] = re[u] - tRe;
+          im[v] = im[u] - tIm;
+          re[u] += tRe;
+          im[u] += tIm;
+        }
+      }
+    }
+  }
+
+  /**
+   * This method multiplies two sparse polynomials term by term, then sorts the products by power
+   * and adds up the ones with the same power. The caller has checked that the number of products
+   * and the degree of the product fit.
+   *
+   * @param first  the terms of the first polynomial.
+   * @param second the terms of the second polynomial.
+   * @return the product of the two polynomials.
+   */
+  private static Polynomial multiplySparse(TermLayout first, TermLayout second) {
+
+    int count = first.size() * second.size();
+    int[] powers = new int[count];
+    long[] coefficients = new long[count];
+    long[] keys = new long[count];
+
+    int index = 0;
+    TermIterator i = first.terms();
+    while (i.next()) {
+      TermIterator j = second.terms();
+      while (j.next()) {
+        powers[index] = i.getPower() + j.getPower();
+        coefficients[index] = i.getCoefficient() * j.getCoefficient();
+        keys[index] = ((long) powers[index] << 32) | index;
+        index++;
+      }
+    }
+
+    Arrays.sort(keys);
+
+    int[] sumPowers = new int[count];
+    long[] sumCoefficients = new long[count];
+    int size = 0;
+    for (int k = 0; k < count; ) {
+      int power = (int) (keys[k] >>> 32);
+      long coefficient = 0;
+      for (; k < count && (int) (keys[k] >>> 32) == power; k++) {
+        coefficient += coefficients[(int) keys[k]];
+      }
+      if (coefficient != 0) {
+        sumPowers[size] = power;
+        sumCoefficients[size] = coefficient;
+        size++;
+      }
+    }
+
+    return new SparsePolynomial(sumPowers, sumCoefficients, size);
+  }
+
+  /**
+   * This method spreads the terms of a layout into a coefficient array indexed by power.
+   *
+   * @param layout the terms.
+   * @param degree the degree of the polynomial.
+   * @return the coefficients indexed by power.
+   */
+  private static long[] toDense(TermLayout layout, int degree) {
+    long[] coefficients = new long[degree + 1];
+    TermIterator terms = layout.terms();
+    while (terms.next()) {
+      coefficients[terms.getPower()] = terms.getCoefficient();
+    }
+    return coefficients;
+  }
+
+  /**
+   * This method returns the largest absolute value in an array.
+   *
+   * @param values the array.
+   * @return the largest absolute value, or Long.MAX_VALUE if it cannot be represented.
+   */
+  private static long maxAbs(long[] values) {
+    long max = 0;
+    for (long value : values) {
+      if (value == Long.MIN_VALUE) {
+        return Long.MAX_VALUE;
+      }
+      max = Math.max(max, Math.abs(value));
+    }
+    return max;
+  }
+
+}
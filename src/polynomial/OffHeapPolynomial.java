@@ -0,0 +1,401 @@
+package polynomial;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+
+/**
+ * This is a dense implementation of the Polynomial interface whose coefficients are kept outside
+ * of the Java heap, in a direct buffer indexed by power. Only a handful of objects live on the
+ * heap however large the degree is, so polynomials with tens of millions of coefficients add
+ * nothing for the garbage collector to trace. Evaluating, reading coefficients, adding and
+ * differentiating all work on the buffer in place, and the results of add and derivative are
+ * kept off the heap as well.
+ *
+ * <p>The buffer is a direct ByteBuffer, as MemorySegment is still an incubator API on JDK 17.
+ * Closing the polynomial only drops its reference to the buffer: like the memory of any direct
+ * buffer, the memory is given back by the garbage collector once the buffer is no longer
+ * referenced, and so is the memory of the smaller buffers dropped when the polynomial grows. Any
+ * use of a polynomial after it has been closed throws an IllegalStateException, so closing it
+ * makes sure the buffer is not kept alive by mistake. Every polynomial returned by add or
+ * derivative has a buffer of its own and should be closed too, which is easiest with a
+ * try-with-resources statement.
+ */
+public class OffHeapPolynomial implements Polynomial, AutoCloseable {
+
+  private static final int DEFAULT_CAPACITY = 8;
+  private static final int MAX_CAPACITY = Integer.MAX_VALUE / Long.BYTES;
+
+  private LongBuffer coefficients;
+  private int degree;
+  private int hash;
+
+  /**
+   * This the default constructor that is used to initialize the polynomial.
+   */
+  public OffHeapPolynomial() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  /**
+   * This constructor initializes an empty polynomial with room for every power up to the given
+   * capacity, so that terms can be added without growing the buffer.
+   *
+   * @param capacity the number of powers that can be stored without resizing.
+   * @throws IllegalArgumentException if the capacity is negative or too large for a buffer.
+   */
+  public OffHeapPolynomial(int capacity) throws IllegalArgumentException {
+    if (capacity < 0) {
+      throw new IllegalArgumentException("capacity cannot be less than zero!!");
+    }
+    this.coefficients = allocate(Math.max(capacity, 1));
+    this.degree = 0;
+  }
+
+  /**
+   * This constructor creates an off-heap copy of any other polynomial.
+   *
+   * @param other the polynomial to be copied.
+   * @throws IllegalArgumentException if the degree is too large for a buffer.
+   */
+  public OffHeapPolynomial(Polynomial other) throws IllegalArgumentException {
+    this((int) Math.min(other.getDegree() + 1L, Integer.MAX_VALUE));
+    if (other instanceof OffHeapPolynomial) {
+      OffHeapPolynomial source = (OffHeapPolynomial) other;
+      copy(source.buffer(), coefficients, source.degree + 1);
+    } else {
+      TermIterator terms = other.terms();
+      while (terms.next()) {
+        coefficients.put(terms.getPower(), terms.getCoefficient());
+      }
+    }
+    recomputeDegree(other.getDegree());
+  }
+
+  /**
+   * This is a private constructor that is used to wrap a buffer that has already been filled.
+   *
+   * @param coefficients the coefficients indexed by power.
+   * @param degree       the highest power whose coefficient may be non-zero.
+   */
+  private OffHeapPolynomial(LongBuffer coefficients, int degree) {
+    this.coefficients = coefficients;
+    recomputeDegree(degree);
+  }
+
+  /**
+   * The addition is performed by combining all the terms and adding the coefficients of the terms
+   * with the same power. The buffer is replaced by a larger one when the power does not fit.
+   *
+   * @param coefficient this is the coefficient of the term.
+   * @param power       this is the power of the term.
+   * @throws IllegalArgumentException is thrown when an Illegal argument is added, or when the
+   *                                  power is too large for a buffer.
+   */
+  @Override
+  public void addTerm(int coefficient, int power) throws IllegalArgumentException {
+
+    LongBuffer buffer = buffer();
+
+    if (coefficient == 0) {
+      return;
+    }
+
+    if (power < 0) {
+      throw new IllegalArgumentException("power cannot be less than zero!!");
+    }
+
+    if (power >= MAX_CAPACITY) {
+      throw new IllegalArgumentException("the polynomial is too large to be stored off the heap");
+    }
+
+    hash = 0;
+
+    if (power >= buffer.capacity()) {
+      LongBuffer larger = allocate((int) Math.min(MAX_CAPACITY,
+              Math.max(power + 1L, 2L * buffer.capacity())));
+      copy(buffer, larger, degree + 1);
+      coefficients = larger;
+      buffer = larger;
+    }
+
+    buffer.put(power, Polynomials.wrap(buffer.get(power) + coefficient));
+
+    if (power > degree) {
+      degree = power;
+    } else if (power == degree) {
+      recomputeDegree(degree);
+    }
+  }
+
+  /**
+   * A method getCoefficient that takes a power and returns the coefficient for the term with that
+   * power.
+   *
+   * @param power this is the power of the term
+   * @return the coefficient of the term.
+   */
+  @Override
+  public int getCoefficient(int power) {
+    LongBuffer buffer = buffer();
+    if (power < 0 || power > degree) {
+      return 0;
+    }
+    return (int) buffer.get(power);
+  }
+
+  /**
+   * A method getDegree that returns the degree of this polynomial.
+   *
+   * @return the degree of the polynomial.
+   */
+  @Override
+  public int getDegree() {
+    buffer();
+    return degree;
+  }
+
+  /**
+   * A method evaluate that takes a double-precision decimal number and returns a double-precision
+   * result which is the evaluation of this polynomial using this argument’s value. The
+   * coefficients are read from the buffer in place.
+   *
+   * @param x this method takes in a variable.
+   * @return it returns the evaluated result.
+   */
+  @Override
+  public double evaluate(double x) {
+    return HornerEvaluator.evaluateDense(buffer(), degree, x);
+  }
+
+  /**
+   * A method evaluate that evaluates this polynomial at a range of values of an array and writes
+   * the results into a range of another array. The two ranges may be the same.
+   *
+   * @param xs        the values of the variable.
+   * @param xsOffset  the index of the first value in xs.
+   * @param out       the array the results are written to.
+   * @param outOffset the index in out of the first result.
+   * @param length    the number of values to be evaluated.
+   * @throws IndexOutOfBoundsException if the range does not fit in either array.
+   */
+  @Override
+  public void evaluate(double[] xs, int xsOffset, double[] out, int outOffset, int length)
+          throws IndexOutOfBoundsException {
+    LongBuffer buffer = buffer();
+    HornerEvaluator.checkRange(xs, xsOffset, out, outOffset, length);
+    HornerEvaluator.evaluateDense(buffer, degree, xs, xsOffset, out, outOffset, length);
+  }
+
+  /**
+   * A method add that takes another Polynomial object and returns the polynomial obtained by adding
+   * the two polynomials. Neither polynomial is mutated. The sum is a new off-heap polynomial,
+   * made by copying the buffer of this polynomial and adding the terms of the other one to it.
+   *
+   * @param p2 this method takes another Polynomial as an argument.
+   * @return the result of addition of two polynomial.
+   * @throws IllegalArgumentException if the degree of the sum is too large for a buffer.
+   */
+  @Override
+  public Polynomial add(Polynomial p2) throws IllegalArgumentException {
+
+    LongBuffer buffer = buffer();
+    int resultDegree = Math.max(degree, p2.getDegree());
+    LongBuffer sum = allocate((int) Math.min(resultDegree + 1L, Integer.MAX_VALUE));
+    copy(buffer, sum, degree + 1);
+
+    if (p2 instanceof OffHeapPolynomial) {
+      OffHeapPolynomial other = (OffHeapPolynomial) p2;
+      LongBuffer otherBuffer = other.buffer();
+      for (int power = 0; power <= other.degree; power++) {
+        sum.put(power, Polynomials.wrap(sum.get(power) + otherBuffer.get(power)));
+      }
+    } else {
+      TermIterator terms = p2.terms();
+      while (terms.next()) {
+        int power = terms.getPower();
+        sum.put(power, Polynomials.wrap(sum.get(power) + terms.getCoefficient()));
+      }
+    }
+
+    return new OffHeapPolynomial(sum, resultDegree);
+  }
+
+  /**
+   * A method derivative that takes no parameters and returns the polynomial obtained by
+   * differentiating this polynomial. The derivative is a new off-heap polynomial filled in a
+   * single pass over the buffer.
+   *
+   * @return the polynomial after performing derivative.
+   */
+  @Override
+  public Polynomial derivative() {
+
+    LongBuffer buffer = buffer();
+    LongBuffer result = allocate(Math.max(degree, 1));
+    for (int power = 1; power <= degree; power++) {
+      result.put(power - 1, Polynomials.wrap(buffer.get(power) * power));
+    }
+
+    return new OffHeapPolynomial(result, Math.max(degree - 1, 0));
+  }
+
+  /**
+   * A method terms that returns an iterator over the terms of this polynomial in decreasing order
+   * of power, skipping the powers whose coefficient is zero. The iterator reads the buffer
+   * directly, so it should not be used after the polynomial has been changed or closed.
+   *
+   * @return an iterator over the terms of the polynomial.
+   */
+  @Override
+  public TermIterator terms() {
+
+    LongBuffer buffer = buffer();
+
+    return new TermIterator() {
+
+      private int power = degree + 1;
+
+      /**
+       * This method moves the iterator onto the next term.
+       *
+       * @return true if there is a term to be read, false if all the terms have been visited.
+       */
+      @Override
+      public boolean next() {
+        do {
+          power--;
+        }
+        while (power >= 0 && buffer.get(power) == 0);
+        return power >= 0;
+      }
+
+      /**
+       * This method is used to get the power of the current term.
+       *
+       * @return the power.
+       */
+      @Override
+      public int getPower() {
+        return power;
+      }
+
+      /**
+       * This method is used to get the coefficient of the current term.
+       *
+       * @return the coefficient.
+       */
+      @Override
+      public long getCoefficient() {
+        return buffer.get(power);
+      }
+    };
+  }
+
+  /**
+   * This method drops the buffer of this polynomial, so that its memory can be given back by the
+   * garbage collector once no iterator reads it anymore. It does nothing if the polynomial has
+   * already been closed.
+   */
+  @Override
+  public void close() {
+    coefficients = null;
+  }
+
+  /**
+   * The toString method is overridden to return the polynomial in sorted order in terms of power.
+   *
+   * @return the polynomial in the form of string.
+   */
+  @Override
+  public String toString() {
+    return PolynomialFormat.toString(terms(), degree + 1);
+  }
+
+  /**
+   * This method take in as argument a polynomial and evaluates if both the polynomials are same.
+   * Two polynomials are the same when they have the same terms, whatever their implementation.
+   *
+   * @param p2 this method takes in a polynomial as an argument.
+   * @return true if the polynomials are same else return false.
+   */
+  @Override
+  public boolean equals(Object p2) {
+    return Polynomials.equals(this, p2);
+  }
+
+  /**
+   * Any two polynomial that compare equal using the equals() method must produce the same
+   * hashCode. The hash is computed from the terms and kept until the polynomial is changed.
+   *
+   * @return the hashcode of the polynomial.
+   */
+  @Override
+  public int hashCode() {
+    if (hash == 0) {
+      hash = Polynomials.hashCode(terms());
+    }
+    return hash;
+  }
+
+  /**
+   * This method returns the buffer of the coefficients, checking that the polynomial is still
+   * open.
+   *
+   * @return the buffer of the coefficients.
+   * @throws IllegalStateException if the polynomial has been closed.
+   */
+  private LongBuffer buffer() throws IllegalStateException {
+    LongBuffer buffer = coefficients;
+    if (buffer == null) {
+      throw new IllegalStateException("the polynomial has been closed");
+    }
+    return buffer;
+  }
+
+  /**
+   * This method moves the cached degree down past any cancelled leading coefficients.
+   *
+   * @param from the highest power that may still hold a non-zero coefficient.
+   */
+  private void recomputeDegree(int from) {
+    int power = from;
+    while (power > 0 && coefficients.get(power) == 0) {
+      power--;
+    }
+    degree = power;
+  }
+
+  /**
+   * This method allocates a zeroed buffer of coefficients outside of the heap.
+   *
+   * @param capacity the number of coefficients.
+   * @return the buffer.
+   * @throws IllegalArgumentException if the capacity is too large for a buffer.
+   */
+  private static LongBuffer allocate(int capacity) throws IllegalArgumentException {
+    if (capacity > MAX_CAPACITY) {
+      throw new IllegalArgumentException("the polynomial is too large to be stored off the heap");
+    }
+    return ByteBuffer.allocateDirect(capacity * Long.BYTES).order(ByteOrder.nativeOrder())
+            .asLongBuffer();
+  }
+
+  /**
+   * This method copies the first coefficients of a buffer into another one, without going
+   * through the heap.
+   *
+   * @param from  the buffer the coefficients are copied from.
+   * @param to    the buffer the coefficients are copied to.
+   * @param count the number of coefficients to be copied.
+   */
+  private static void copy(LongBuffer from, LongBuffer to, int count) {
+    LongBuffer source = from.duplicate();
+    source.position(0);
+    source.limit(count);
+    LongBuffer target = to.duplicate();
+    target.position(0);
+    target.put(source);
+  }
+
+}
@@ -0,0 +1,220 @@
+package polynomial;
+
+/**
+ * This class remembers the results of add, derivative and multiply so that asking again for the
+ * same operation on the same polynomials returns the result computed the first time. The cache
+ * is keyed on the terms of the operands rather than on the objects themselves: each lookup takes a
+ * snapshot of the sorted terms of every operand, which is free for the implementations that
+ * already keep one. Once an operand is changed with addTerm its snapshot no longer matches the
+ * entries made for its old terms, so a stale result can never be returned for it, and those
+ * entries age out of the cache.
+ *
+ * <p>For other implementations, such as DensePolynomial and SparsePolynomial, taking the snapshot
+ * copies every term, which costs as much as adding or differentiating the polynomials. The cache
+ * is only used for those two operations when every operand already keeps its sorted terms;
+ * otherwise the result is computed directly and the cache is left alone. Products cost much more
+ * than a copy of their operands, so they are always looked up in the cache.
+ *
+ * <p>The results are immutable PersistentPolynomial objects that can be shared by every caller.
+ * The cache holds at most the configured number of results and drops the least recently used one
+ * when it is full. It is safe to use from several threads; results are computed outside the lock,
+ * so the same result may occasionally be computed twice.
+ */
+public class OperationCache {
+
+  private static final int ADD = 0;
+  private static final int DERIVATIVE = 1;
+  private static final int MULTIPLY = 2;
+
+  private final LruCache<Key, PersistentPolynomial> results;
+  private long hitCount;
+  private long missCount;
+
+  /**
+   * This constructor creates an empty cache that holds at most the given number of results.
+   *
+   * @param capacity the largest number of results kept.
+   * @throws IllegalArgumentException if the capacity is not positive.
+   */
+  public OperationCache(int capacity) throws IllegalArgumentException {
+    if (capacity < 1) {
+      throw new IllegalArgumentException("capacity must be positive!!");
+    }
+    this.results = new LruCache<>(capacity);
+  }
+
+  /**
+   * This method returns the sum of two polynomials, computing it only if the same sum is not
+   * already in the cache. The sum is computed directly when either polynomial does not keep its
+   * sorted terms.
+   *
+   * @param p1 the first polynomial.
+   * @param p2 the second polynomial.
+   * @return the sum of the polynomials.
+   */
+  public PersistentPolynomial add(Polynomial p1, Polynomial p2) {
+
+    if (!(p1 instanceof LayoutPolynomial && p2 instanceof LayoutPolynomial)) {
+      return PersistentPolynomial.of(new TermMerger(p1.terms(), p2.terms()));
+    }
+
+    Key key = new Key(ADD, TermLayout.of(p1), TermLayout.of(p2));
+    PersistentPolynomial result = lookup(key);
+
+    if (result == null) {
+      result = PersistentPolynomial.of(new TermMerger(key.first.terms(), key.second.terms()));
+      store(key, result);
+    }
+    return result;
+  }
+
+  /**
+   * This method returns the derivative of a polynomial, computing it only if the same derivative
+   * is not already in the cache. The derivative is computed directly when the polynomial does not
+   * keep its sorted terms.
+   *
+   * @param p the polynomial.
+   * @return the derivative of the polynomial.
+   */
+  public PersistentPolynomial derivative(Polynomial p) {
+
+    if (!(p instanceof LayoutPolynomial)) {
+      return PersistentPolynomial.of(p.derivative().terms());
+    }
+
+    Key key = new Key(DERIVATIVE, TermLayout.of(p), null);
+    PersistentPolynomial result = lookup(key);
+
+    if (result == null) {
+      result = PersistentPolynomial.of(key.first.derivative().terms());
+      store(key, result);
+    }
+    return result;
+  }
+
+  /**
+   * This method returns the product of two polynomials, computing it only if the same product is
+   * not already in the cache.
+   *
+   * @param p1 the first polynomial.
+   * @param p2 the second polynomial.
+   * @return the product of the polynomials.
+   */
+  public PersistentPolynomial multiply(Polynomial p1, Polynomial p2) {
+
+    Key key = new Key(MULTIPLY, TermLayout.of(p1), TermLayout.of(p2));
+    PersistentPolynomial result = lookup(key);
+
+    if (result == null) {
+      result = PersistentPolynomial.of(
+              MultiplicationEngine.SEQUENTIAL.multiply(key.first, key.second).terms());
+      store(key, result);
+    }
+    return result;
+  }
+
+  /**
+   * This method returns the counters of the cache as they are now.
+   *
+   * @return the hits, misses and evictions counted so far.
+   */
+  public synchronized CacheStats stats() {
+    return new CacheStats(hitCount, missCount, results.evictionCount());
+  }
+
+  /**
+   * This method is used to get the number of results in the cache.
+   *
+   * @return the number of results.
+   */
+  public synchronized int size() {
+    return results.size();
+  }
+
+  /**
+   * This method drops every result from the cache. The counters are kept.
+   */
+  public synchronized void clear() {
+    results.clear();
+  }
+
+  /**
+   * This method looks up a result and counts the lookup as a hit or a miss.
+   *
+   * @param key the operation and its operands.
+   * @return the result, or null if it is not in the cache.
+   */
+  private synchronized PersistentPolynomial lookup(Key key) {
+    PersistentPolynomial result = results.get(key);
+    if (result == null) {
+      missCount++;
+    } else {
+      hitCount++;
+    }
+    return result;
+  }
+
+  /**
+   * This method stores a result in the cache, dropping the least recently used one if needed.
+   *
+   * @param key    the operation and its operands.
+   * @param result the result of the operation.
+   */
+  private synchronized void store(Key key, PersistentPolynomial result) {
+    results.put(key, result);
+  }
+
+  /**
+   * This class is the key of a result: the operation and the terms of its operands.
+   */
+  private static final class Key {
+
+    private final int operation;
+    private final TermLayout first;
+    private final TermLayout second;
+    private final int hash;
+
+    /**
+     * This a constructor that is used to create the key.
+     *
+     * @param operation the operation.
+     * @param first     the terms of the first operand.
+     * @param second    the terms of the second operand, or null if there is only one.
+     */
+    Key(int operation, TermLayout first, TermLayout second) {
+      this.operation = operation;
+      this.first = first;
+      this.second = second;
+      this.hash = 31 * (31 * operation + first.hashCode())
+              + (second == null ? 0 : second.hashCode());
+    }
+
+    /**
+     * This method checks if another object is the key of the same operation on the same terms.
+     *
+     * @param other the object to be compared with.
+     * @return true if the keys are the same, else false.
+     */
+    @Override
+    public boolean equals(Object other) {
+      if (!(other instanceof Key)) {
+        return false;
+      }
+      Key key = (Key) other;
+      return operation == key.operation && hash == key.hash && first.equals(key.first)
+              && (second == null ? key.second == null : second.equals(key.second));
+    }
+
+    /**
+     * This method returns the hash of the key, computed when it was created.
+     *
+     * @return the hash of the key.
+     */
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+
+  }
+
+}
@@ -0,0 +1,213 @@
+package polynomial;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * This class evaluates a polynomial at a large number of values using a fork/join pool. The values
+ * are split in halves until each piece is no larger than the configured granularity, and every
+ * piece is then evaluated with the batch evaluate method of the polynomial, writing straight into
+ * the array supplied by the caller. The polynomial must not be changed while it is being
+ * evaluated.
+ */
+public class ParallelEvaluator {
+
+  private static final int DEFAULT_GRANULARITY = 1 << 14;
+  private static final double GRID_TOLERANCE = 1e-9;
+
+  private final ForkJoinPool pool;
+  private final int granularity;
+
+  /**
+   * This the default constructor that evaluates on the common pool with the default granularity.
+   */
+  public ParallelEvaluator() {
+    this(ForkJoinPool.commonPool(), DEFAULT_GRANULARITY);
+  }
+
+  /**
+   * This constructor takes the pool the evaluation runs on and the number of values below which a
+   * piece of work is no longer split.
+   *
+   * @param pool        the pool the evaluation runs on.
+   * @param granularity the largest number of values evaluated by a single task.
+   * @throws IllegalArgumentException if the granularity is not positive.
+   */
+  public ParallelEvaluator(ForkJoinPool pool, int granularity) throws IllegalArgumentException {
+    if (granularity < 1) {
+      throw new IllegalArgumentException("granularity must be positive!!");
+    }
+    this.pool = pool;
+    this.granularity = granularity;
+  }
+
+  /**
+   * This method evaluates the polynomial at every value of an array and writes the results into
+   * another array of at least the same length. The two arrays may be the same.
+   *
+   * @param p   the polynomial to be evaluated.
+   * @param xs  the values of the variable.
+   * @param out the array the results are written to.
+   * @throws IndexOutOfBoundsException if out is shorter than xs.
+   */
+  public void evaluate(Polynomial p, double[] xs, double[] out) throws IndexOutOfBoundsException {
+    evaluate(p, xs, 0, out, 0, xs.length);
+  }
+
+  /**
+   * This method evaluates the polynomial at a range of values of an array and writes the results
+   * into a range of another array. The two ranges may be the same.
+   *
+   * @param p         the polynomial to be evaluated.
+   * @param xs        the values of the variable.
+   * @param xsOffset  the index of the first value in xs.
+   * @param out       the array the results are written to.
+   * @param outOffset the index in out of the first result.
+   * @param length    the number of values to be evaluated.
+   * @throws IndexOutOfBoundsException if the range does not fit in either array.
+   */
+  public void evaluate(Polynomial p, double[] xs, int xsOffset, double[] out, int outOffset,
+                       int length) throws IndexOutOfBoundsException {
+    HornerEvaluator.checkRange(xs, xsOffset, out, outOffset, length);
+    pool.invoke(new ArrayTask(p, xs, xsOffset, out, outOffset, length));
+  }
+
+  /**
+   * This method evaluates the polynomial on the grid a, a + h, a + 2h, ... up to and including b,
+   * writing the value at a + i * h into out[i]. The number of steps from a to b is rounded to the
+   * nearest whole number when it is within a small tolerance of it, so that b is not lost to the
+   * rounding error of the division, as it is for a = 0, b = 0.3 and h = 0.1.
+   *
+   * @param p   the polynomial to be evaluated.
+   * @param a   the first value of the grid.
+   * @param b   the last value of the grid.
+   * @param h   the step between two values of the grid.
+   * @param out the array the results are written to.
+   * @return the number of values in the grid.
+   * @throws IllegalArgumentException  if the step is not positive or b is less than a.
+   * @throws IndexOutOfBoundsException if out cannot hold every value of the grid.
+   */
+  public int evaluateRange(Polynomial p, double a, double b, double h, double[] out)
+          throws IllegalArgumentException, IndexOutOfBoundsException {
+
+    if (!(h > 0) || !(b >= a)) {
+      throw new IllegalArgumentException("the grid is incorrect!");
+    }
+
+    double quotient = (b - a) / h;
+    double steps = Math.rint(quotient);
+    if (Math.abs(quotient - steps) > GRID_TOLERANCE * Math.max(1.0, quotient)) {
+      steps = Math.floor(quotient);
+    }
+    if (steps >= out.length) {
+      throw new IndexOutOfBoundsException("the grid does not fit in the array");
+    }
+
+    int count = (int) steps + 1;
+    pool.invoke(new RangeTask(p, a, h, out, 0, count));
+    return count;
+  }
+
+  /**
+   * This class evaluates a range of values taken from an array.
+   */
+  private class ArrayTask extends RecursiveAction {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Polynomial p;
+    private final double[] xs;
+    private final int xsOffset;
+    private final double[] out;
+    private final int outOffset;
+    private final int length;
+
+    /**
+     * This a constructor that is used to create the task.
+     *
+     * @param p         the polynomial to be evaluated.
+     * @param xs        the values of the variable.
+     * @param xsOffset  the index of the first value in xs.
+     * @param out       the array the results are written to.
+     * @param outOffset the index in out of the first result.
+     * @param length    the number of values to be evaluated.
+     */
+    ArrayTask(Polynomial p, double[] xs, int xsOffset, double[] out, int outOffset, int length) {
+      this.p = p;
+      this.xs = xs;
+      this.xsOffset = xsOffset;
+      this.out = out;
+      this.outOffset = outOffset;
+      this.length = length;
+    }
+
+    /**
+     * This method evaluates the range directly or splits it into two halves.
+     */
+    @Override
+    protected void compute() {
+      if (length <= granularity) {
+        p.evaluate(xs, xsOffset, out, outOffset, length);
+        return;
+      }
+      int half = length >>> 1;
+      invokeAll(new ArrayTask(p, xs, xsOffset, out, outOffset, half),
+              new ArrayTask(p, xs, xsOffset + half, out, outOffset + half, length - half));
+    }
+
+  }
+
+  /**
+   * This class evaluates a range of the values of a grid.
+   */
+  private class RangeTask extends RecursiveAction {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Polynomial p;
+    private final double a;
+    private final double h;
+    private final double[] out;
+    private final int from;
+    private final int length;
+
+    /**
+     * This a constructor that is used to create the task.
+     *
+     * @param p      the polynomial to be evaluated.
+     * @param a      the first value of the grid.
+     * @param h      the step between two values of the grid.
+     * @param out    the array the results are written to.
+     * @param from   the index of the first value of the grid handled by this task.
+     * @param length the number of values handled by this task.
+     */
+    RangeTask(Polynomial p, double a, double h, double[] out, int from, int length) {
+      this.p = p;
+      this.a = a;
+      this.h = h;
+      this.out = out;
+      this.from = from;
+      this.length = length;
+    }
+
+    /**
+     * This method fills in the values of the grid and evaluates them in place, or splits the range
+     * into two halves.
+     */
+    @Override
+    protected void compute() {
+      if (length <= granularity) {
+        for (int i = from; i < from + length; i++) {
+          out[i] = a + i * h;
+        }
+        p.evaluate(out, from, out, from, length);
+        return;
+      }
+      int half = length >>> 1;
+      invokeAll(new RangeTask(p, a, h, out, from, half),
+              new RangeTask(p, a, h, out, from + half, length - half));
+    }
+
+  }
+
+}
@@ -0,0 +1,147 @@
+package polynomial;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * This class parses very large polynomial texts using a fork/join pool. The text is split in
+ * halves at the spaces between terms until each piece is no larger than the configured
+ * granularity, every piece is read by its own PolynomialScanner into a table of coefficients
+ * summed by power, and the tables are then merged back together. The text accepted and the
+ * polynomial built are the same as with the PolynomialImpl constructor, and so are the errors: a
+ * variable that is not the same everywhere is reported ahead of any other error, at the offset
+ * where it is first found.
+ */
+public class ParallelPolynomialParser {
+
+  private static final int DEFAULT_GRANULARITY = 1 << 20;
+
+  private final ForkJoinPool pool;
+  private final int granularity;
+
+  /**
+   * This the default constructor that parses on the common pool with the default granularity.
+   */
+  public ParallelPolynomialParser() {
+    this(ForkJoinPool.commonPool(), DEFAULT_GRANULARITY);
+  }
+
+  /**
+   * This constructor takes the pool the parsing runs on and the number of characters below which
+   * a piece of text is no longer split.
+   *
+   * @param pool        the pool the parsing runs on.
+   * @param granularity the largest number of characters read by a single task.
+   * @throws IllegalArgumentException if the granularity is not positive.
+   */
+  public ParallelPolynomialParser(ForkJoinPool pool, int granularity)
+          throws IllegalArgumentException {
+    if (granularity < 1) {
+      throw new IllegalArgumentException("granularity must be positive!!");
+    }
+    this.pool = pool;
+    this.granularity = granularity;
+  }
+
+  /**
+   * This method parses a polynomial held in a character sequence. The sequence must not be changed
+   * while it is being parsed.
+   *
+   * @param text the text of the polynomial.
+   * @return the polynomial, as a PolynomialImpl.
+   * @throws PolynomialFormatException if the polynomial is incorrect.
+   */
+  public Polynomial parse(CharSequence text) throws PolynomialFormatException {
+
+    ParseTask task = new ParseTask(text, 0, text.length());
+    pool.invoke(task);
+    task.scanner.check();
+
+    PolynomialImpl result = new PolynomialImpl();
+    task.terms.addTo(result);
+    return result;
+  }
+
+  /**
+   * This class reads a range of the text, which starts either at the start of the text or right
+   * after a space.
+   */
+  private class ParseTask extends RecursiveAction {
+
+    private static final long serialVersionUID = 1L;
+
+    private final CharSequence text;
+    private final int start;
+    private final int end;
+    private PolynomialScanner scanner;
+    private CoefficientAccumulator terms;
+
+    /**
+     * This a constructor that is used to create the task.
+     *
+     * @param text  the whole text.
+     * @param start the index of the first character of the range.
+     * @param end   the index after the last character of the range.
+     */
+    ParseTask(CharSequence text, int start, int end) {
+      this.text = text;
+      this.start = start;
+      this.end = end;
+    }
+
+    /**
+     * This method reads the range directly or splits it into two halves at a space, merging what
+     * was found in both halves.
+     */
+    @Override
+    protected void compute() {
+
+      if (end - start > granularity) {
+        int split = boundary(start + (end - start) / 2);
+        if (split < end) {
+          ParseTask left = new ParseTask(text, start, split);
+          ParseTask right = new ParseTask(text, split, end);
+          invokeAll(left, right);
+
+          scanner = left.scanner;
+          scanner.append(right.scanner);
+
+          //the smaller table is merged into the larger one
+          if (left.terms.size() >= right.terms.size()) {
+            terms = left.terms;
+            terms.addAll(right.terms);
+          } else {
+            terms = right.terms;
+            terms.addAll(left.terms);
+          }
+          return;
+        }
+      }
+
+      terms = new CoefficientAccumulator();
+      scanner = new PolynomialScanner(terms, start, start == 0);
+      for (int i = start; i < end; i++) {
+        scanner.accept(text.charAt(i));
+      }
+      scanner.finish();
+    }
+
+    /**
+     * This method finds the first index of the range that comes right after a space, searching
+     * from the given index onwards.
+     *
+     * @param from the index the search starts at.
+     * @return the index after the space, or the end of the range if there is no space.
+     */
+    private int boundary(int from) {
+      for (int i = from; i < end; i++) {
+        if (text.charAt(i) == ' ') {
+          return i + 1;
+        }
+      }
+      return end;
+    }
+
+  }
+
+}
@@ -0,0 +1,531 @@
+package polynomial;
+
+import java.util.Arrays;
+
+/**
+ * This is an immutable implementation of the Polynomial interface. The terms are kept in a treap
+ * ordered by power, whose nodes are never changed once they are built. Adding a term with
+ * withTerm returns a new polynomial in logarithmic time that shares every node off the path to
+ * the term with the old one, which stays as it was. The priority of each node is derived from its
+ * power, so the shape of the tree only depends on the powers it holds.
+ *
+ * <p>As nothing can be changed after construction, a PersistentPolynomial can be handed to other
+ * threads without copying it and without any locking. The addTerm method of the Polynomial
+ * interface is not supported.
+ */
+public final class PersistentPolynomial implements LayoutPolynomial {
+
+  private static final PersistentPolynomial EMPTY = new PersistentPolynomial(null, 0).prepared();
+
+  private final Node root;
+  private final int size;
+  private TermLayout layout;
+  private int hash;
+
+  /**
+   * This is a private constructor that wraps the root of a tree.
+   *
+   * @param root the root of the tree, or null if there are no terms.
+   * @param size the number of terms in the tree.
+   */
+  private PersistentPolynomial(Node root, int size) {
+    this.root = root;
+    this.size = size;
+  }
+
+  /**
+   * This method returns the polynomial without any terms.
+   *
+   * @return the empty polynomial.
+   */
+  public static PersistentPolynomial empty() {
+    return EMPTY;
+  }
+
+  /**
+   * This method returns an immutable polynomial with the same terms as another polynomial. The
+   * tree is built in linear time from the terms, which come sorted by power.
+   *
+   * @param other the polynomial to be copied.
+   * @return the immutable polynomial.
+   */
+  public static PersistentPolynomial of(Polynomial other) {
+    if (other instanceof PersistentPolynomial) {
+      return (PersistentPolynomial) other;
+    }
+    return of(other.terms());
+  }
+
+  /**
+   * This method parses a polynomial and returns it as an immutable polynomial. The string follows
+   * the same format as the one accepted by PolynomialImpl.
+   *
+   * @param polynomial this method takes a polynomial in the form of string.
+   * @return the immutable polynomial.
+   * @throws IllegalArgumentException if the polynomial is incorrect.
+   */
+  public static PersistentPolynomial parse(String polynomial) throws IllegalArgumentException {
+    return of(new PolynomialImpl(polynomial));
+  }
+
+  /**
+   * This method returns a new polynomial with a term added to the terms of this one, combining it
+   * with the term of the same power if there is one, wrapping around like int arithmetic. This
+   * polynomial is left unchanged.
+   *
+   * @param coefficient this is the coefficient of the term.
+   * @param power       this is the power of the term.
+   * @return the polynomial with the term added.
+   * @throws IllegalArgumentException if the power is negative.
+   */
+  public PersistentPolynomial withTerm(int coefficient, int power)
+          throws IllegalArgumentException {
+
+    if (coefficient == 0) {
+      return this;
+    }
+
+    if (power < 0) {
+      throw new IllegalArgumentException("power cannot be less than zero!!");
+    }
+
+    long old = find(power);
+    long sum = Polynomials.wrap(old + coefficient);
+    int newSize = size + (old == 0 ? 1 : 0) - (sum == 0 ? 1 : 0);
+
+    Node newRoot = insert(root, power, coefficient);
+    if (newRoot == null) {
+      return EMPTY;
+    }
+    return new PersistentPolynomial(newRoot, newSize);
+  }
+
+  /**
+   * This polynomial cannot be changed, use withTerm to get a new polynomial with the term added.
+   *
+   * @param coefficient this is the coefficient of the term.
+   * @param power       this is the power of the term.
+   * @throws UnsupportedOperationException always.
+   */
+  @Override
+  public void addTerm(int coefficient, int power) throws UnsupportedOperationException {
+    throw new UnsupportedOperationException("the polynomial cannot be changed");
+  }
+
+  /**
+   * A method getCoefficient that takes a power and returns the coefficient for the term with that
+   * power.
+   *
+   * @param power this is the power of the term
+   * @return the coefficient of the term.
+   */
+  @Override
+  public int getCoefficient(int power) {
+    return (int) find(power);
+  }
+
+  /**
+   * A method getDegree that returns the degree of this polynomial.
+   *
+   * @return the degree of the polynomial.
+   */
+  @Override
+  public int getDegree() {
+    if (root == null) {
+      return 0;
+    }
+    Node node = root;
+    while (node.right != null) {
+      node = node.right;
+    }
+    return node.power;
+  }
+
+  /**
+   * A method evaluate that takes a double-precision decimal number and returns a double-precision
+   * result which is the evaluation of this polynomial using this argument’s value.
+   *
+   * @param x this method takes in a variable.
+   * @return it returns the evaluated result.
+   */
+  @Override
+  public double evaluate(double x) {
+    return layout().evaluate(x);
+  }
+
+  /**
+   * A method evaluate that evaluates this polynomial at a range of values of an array and writes
+   * the results into a range of another array. The two ranges may be the same.
+   *
+   * @param xs        the values of the variable.
+   * @param xsOffset  the index of the first value in xs.
+   * @param out       the array the results are written to.
+   * @param outOffset the index in out of the first result.
+   * @param length    the number of values to be evaluated.
+   * @throws IndexOutOfBoundsException if the range does not fit in either array.
+   */
+  @Override
+  public void evaluate(double[] xs, int xsOffset, double[] out, int outOffset, int length)
+          throws IndexOutOfBoundsException {
+    HornerEvaluator.checkRange(xs, xsOffset, out, outOffset, length);
+    layout().evaluate(xs, xsOffset, out, outOffset, length);
+  }
+
+  /**
+   * A method add that takes another Polynomial object and returns the polynomial obtained by adding
+   * the two polynomials. Neither polynomial is mutated. The terms of both polynomials are merged
+   * in order of power and the tree of the sum is built in linear time.
+   *
+   * @param p2 this method takes another Polynomial as an argument.
+   * @return the result of addition of two polynomial.
+   */
+  @Override
+  public Polynomial add(Polynomial p2) {
+    return of(new TermMerger(this.terms(), p2.terms()));
+  }
+
+  /**
+   * A method derivative that takes no parameters and returns the polynomial obtained by
+   * differentiating this polynomial. The derivative is computed from the sorted layout of the
+   * terms.
+   *
+   * @return the polynomial after performing derivative.
+   */
+  @Override
+  public Polynomial derivative() {
+    return of(layout().derivative().terms());
+  }
+
+  /**
+   * A method multiply that takes another Polynomial object and returns the polynomial obtained by
+   * multiplying the two polynomials. Neither polynomial is mutated.
+   *
+   * @param p2 this method takes another Polynomial as an argument.
+   * @return the result of multiplication of two polynomial.
+   */
+  @Override
+  public Polynomial multiply(Polynomial p2) {
+    return of(MultiplicationEngine.SEQUENTIAL.multiply(this, p2).terms());
+  }
+
+  /**
+   * A method terms that returns an iterator over the terms of this polynomial in decreasing order
+   * of power.
+   *
+   * @return an iterator over the terms of the polynomial.
+   */
+  @Override
+  public TermIterator terms() {
+    return layout().terms();
+  }
+
+  /**
+   * This method is used to get the number of terms of this polynomial.
+   *
+   * @return the number of terms.
+   */
+  int size() {
+    return size;
+  }
+
+  /**
+   * The toString method is overridden to return the polynomial in sorted order in terms of power.
+   *
+   * @return the polynomial in the form of string.
+   */
+  @Override
+  public String toString() {
+    return PolynomialFormat.toString(terms(), size);
+  }
+
+  /**
+   * This method take in as argument a polynomial and evaluates if both the polynomials are same.
+   * Two polynomials are the same when they have the same terms, whatever their implementation.
+   *
+   * @param p2 this method takes in a polynomial as an argument.
+   * @return true if the polynomials are same else return false.
+   */
+  @Override
+  public boolean equals(Object p2) {
+    return Polynomials.equals(this, p2);
+  }
+
+  /**
+   * Any two polynomial that compare equal using the equals() method must produce the same
+   * hashCode. The hash is computed from the terms on first use, or when the polynomial is
+   * prepared. A hash that happens to be zero is not kept, as zero marks a hash not computed yet.
+   *
+   * @return the hashcode of the polynomial.
+   */
+  @Override
+  public int hashCode() {
+    int h = hash;
+    if (h == 0) {
+      h = Polynomials.hashCode(terms());
+      if (h != 0) {
+        hash = h;
+      }
+    }
+    return h;
+  }
+
+  /**
+   * This method builds the layout of the terms and the hash ahead of time, so that reading the
+   * polynomial afterwards never writes to it. A polynomial about to be handed to other threads can
+   * be prepared by the thread that built it.
+   *
+   * @return this polynomial.
+   */
+  PersistentPolynomial prepared() {
+    layout();
+    hashCode();
+    return this;
+  }
+
+  /**
+   * This method returns the terms of this polynomial sorted by power in primitive arrays. The
+   * layout is built on first use. Two threads may both build it, but as the layout is immutable
+   * either of them can be kept.
+   *
+   * @return the sorted layout of the terms.
+   */
+  @Override
+  public TermLayout layout() {
+
+    TermLayout terms = layout;
+    if (terms != null) {
+      return terms;
+    }
+
+    int[] powers = new int[size];
+    long[] coefficients = new long[size];
+    Node[] stack = new Node[64];
+    int top = 0;
+    int count = 0;
+
+    //visit the nodes in order of increasing power
+    Node node = root;
+    while (node != null || top > 0) {
+      while (node != null) {
+        if (top == stack.length) {
+          stack = Arrays.copyOf(stack, top * 2);
+        }
+        stack[top++] = node;
+        node = node.left;
+      }
+      node = stack[--top];
+      powers[count] = node.power;
+      coefficients[count] = node.coefficient;
+      count++;
+      node = node.right;
+    }
+
+    terms = new TermLayout(powers, coefficients, count);
+    layout = terms;
+    return terms;
+  }
+
+  /**
+   * This method builds an immutable polynomial out of a sequence of terms in decreasing order of
+   * power, such as the terms of another polynomial. The treap is built in a single pass as a
+   * Cartesian tree, keeping a stack of the nodes on its rightmost path.
+   *
+   * @param terms the terms of the new polynomial.
+   * @return the polynomial made of those terms.
+   */
+  static PersistentPolynomial of(TermIterator terms) {
+
+    int[] powers = new int[8];
+    long[] coefficients = new long[8];
+    int count = 0;
+    while (terms.next()) {
+      if (count == powers.length) {
+        powers = Arrays.copyOf(powers, count * 2);
+        coefficients = Arrays.copyOf(coefficients, count * 2);
+      }
+      powers[count] = terms.getPower();
+      coefficients[count] = terms.getCoefficient();
+      count++;
+    }
+
+    if (count == 0) {
+      return EMPTY;
+    }
+
+    int[] left = new int[count];
+    int[] right = new int[count];
+    int[] stack = new int[count];
+    int top = 0;
+
+    //the terms come in decreasing order, so the stack holds the leftmost path of the tree
+    for (int i = 0; i < count; i++) {
+      int last = -1;
+      while (top > 0 && before(powers[i], powers[stack[top - 1]])) {
+        last = stack[--top];
+      }
+      right[i] = last;
+      left[i] = -1;
+      if (top > 0) {
+        left[stack[top - 1]] = i;
+      }
+      stack[top++] = i;
+    }
+
+    Node tree = build(stack[0], powers, coefficients, left, right);
+    return new PersistentPolynomial(tree, count);
+  }
+
+  /**
+   * This method creates the nodes of a Cartesian tree computed over arrays of terms, children
+   * first.
+   *
+   * @param index        the index of the term at the root of the subtree, or -1 for none.
+   * @param powers       the powers of the terms.
+   * @param coefficients the coefficient of each power.
+   * @param left         the index of the left child of each term.
+   * @param right        the index of the right child of each term.
+   * @return the root of the subtree.
+   */
+  private static Node build(int index, int[] powers, long[] coefficients, int[] left,
+                            int[] right) {
+    if (index < 0) {
+      return null;
+    }
+    return new Node(powers[index], coefficients[index],
+            build(left[index], powers, coefficients, left, right),
+            build(right[index], powers, coefficients, left, right));
+  }
+
+  /**
+   * This method looks up the coefficient of a power in the tree.
+   *
+   * @param power the power.
+   * @return the coefficient of the power, or zero if there is no such term.
+   */
+  private long find(int power) {
+    Node node = root;
+    while (node != null) {
+      if (power == node.power) {
+        return node.coefficient;
+      }
+      node = power < node.power ? node.left : node.right;
+    }
+    return 0;
+  }
+
+  /**
+   * This method returns a new subtree with a term added, copying only the nodes on the path to
+   * the term and rotating the new node up while it comes before its parent.
+   *
+   * @param node        the root of the subtree.
+   * @param power       the power of the term.
+   * @param coefficient the coefficient of the term.
+   * @return the root of the new subtree, or null if it has no terms left.
+   */
+  private static Node insert(Node node, int power, long coefficient) {
+
+    if (node == null) {
+      return new Node(power, coefficient, null, null);
+    }
+
+    if (power == node.power) {
+      long sum = Polynomials.wrap(node.coefficient + coefficient);
+      if (sum == 0) {
+        return join(node.left, node.right);
+      }
+      return new Node(power, sum, node.left, node.right);
+    }
+
+    if (power < node.power) {
+      Node child = insert(node.left, power, coefficient);
+      if (child != null && before(child.power, node.power)) {
+        //rotate the child up to the right
+        return new Node(child.power, child.coefficient, child.left,
+                new Node(node.power, node.coefficient, child.right, node.right));
+      }
+      return new Node(node.power, node.coefficient, child, node.right);
+    }
+
+    Node child = insert(node.right, power, coefficient);
+    if (child != null && before(child.power, node.power)) {
+      //rotate the child up to the left
+      return new Node(child.power, child.coefficient,
+              new Node(node.power, node.coefficient, node.left, child.left), child.right);
+    }
+    return new Node(node.power, node.coefficient, node.left, child);
+  }
+
+  /**
+   * This method joins two subtrees, where every power of the first one is less than every power
+   * of the second one.
+   *
+   * @param low  the subtree with the lower powers.
+   * @param high the subtree with the higher powers.
+   * @return the root of the joined subtree.
+   */
+  private static Node join(Node low, Node high) {
+    if (low == null) {
+      return high;
+    }
+    if (high == null) {
+      return low;
+    }
+    if (before(low.power, high.power)) {
+      return new Node(low.power, low.coefficient, low.left, join(low.right, high));
+    }
+    return new Node(high.power, high.coefficient, join(low, high.left), high.right);
+  }
+
+  /**
+   * This method checks if a power comes before another one in the heap order of the treap. The
+   * priority of a power is a hash of the power, and ties are broken by the power itself.
+   *
+   * @param power the first power.
+   * @param other the second power.
+   * @return true if the first power belongs above the second one.
+   */
+  private static boolean before(int power, int other) {
+    int priority = priority(power);
+    int otherPriority = priority(other);
+    return priority != otherPriority ? priority > otherPriority : power > other;
+  }
+
+  /**
+   * This method spreads the bits of a power into the priority of its node.
+   *
+   * @param power the power.
+   * @return the priority of the power.
+   */
+  private static int priority(int power) {
+    int h = power * 0x9E3779B9;
+    return h ^ (h >>> 16);
+  }
+
+  /**
+   * This class is a node of the treap. A node is never changed once it has been built.
+   */
+  private static final class Node {
+
+    private final int power;
+    private final long coefficient;
+    private final Node left;
+    private final Node right;
+
+    /**
+     * This a constructor that is used to create the node.
+     *
+     * @param power       the power of the term.
+     * @param coefficient the coefficient of the term.
+     * @param left        the subtree with the lower powers.
+     * @param right       the subtree with the higher powers.
+     */
+    Node(int power, long coefficient, Node left, Node right) {
+      this.power = power;
+      this.coefficient = coefficient;
+      this.left = left;
+      this.right = right;
+    }
+
+  }
+
+}
@@ -1,10 +1,21 @@
 package polynomial;
 
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.BufferOverflowException;
+import java.nio.DoubleBuffer;
+
 /**
  * A polynomial is made of several terms each term having a coefficient and a variable raised to a
  * power. An example of such a polynomial is 𝑓(𝑥)=3𝑥4−5𝑥3+2𝑥−4. This Interface provides a set
  * of methods that can be used to build a polynomial and perform some operations on the created
  * polynomial.
+ *
+ * <p>Coefficients are int values in every implementation. When adding terms, adding, multiplying
+ * or differentiating polynomials makes a coefficient overflow, it wraps around in the same way as
+ * int arithmetic does, so the coefficient returned by getCoefficient, the terms, the text and the
+ * value of a polynomial always agree and no operation fails because a coefficient overflows.
+ * Powers do not wrap around, so a product whose degree does not fit in an int is rejected.
  */
 public interface Polynomial {
 
@@ -23,7 +34,7 @@ public interface Polynomial {
 
   /**
    * A method getCoefficient that takes a power and returns the coefficient for the term with that
-   * power.
+   * power. A coefficient that has overflowed has wrapped around as described above.
    *
    * @param power this is the power of the term
    * @return the coefficient of the term.
@@ -47,6 +58,71 @@ public interface Polynomial {
    */
   public double evaluate(double x);
 
+  /**
+   * A method evaluate that evaluates this polynomial at every value of an array and writes the
+   * results into another array of at least the same length. The input and output may be the same
+   * array, in which case the values are replaced by the results.
+   *
+   * @param xs  the values of the variable.
+   * @param out the array the results are written to.
+   * @throws IndexOutOfBoundsException if out is shorter than xs.
+   */
+  public default void evaluate(double[] xs, double[] out) throws IndexOutOfBoundsException {
+    evaluate(xs, 0, out, 0, xs.length);
+  }
+
+  /**
+   * A method evaluate that evaluates this polynomial at a range of values of an array and writes
+   * the results into a range of another array. The terms are laid out once for the whole range,
+   * so this is much cheaper than calling evaluate for every value. The two ranges may be the same.
+   *
+   * @param xs        the values of the variable.
+   * @param xsOffset  the index of the first value in xs.
+   * @param out       the array the results are written to.
+   * @param outOffset the index in out of the first result.
+   * @param length    the number of values to be evaluated.
+   * @throws IndexOutOfBoundsException if the range does not fit in either array.
+   */
+  public default void evaluate(double[] xs, int xsOffset, double[] out, int outOffset,
+                               int length) throws IndexOutOfBoundsException {
+    HornerEvaluator.checkRange(xs, xsOffset, out, outOffset, length);
+    TermLayout.of(terms()).evaluate(xs, xsOffset, out, outOffset, length);
+  }
+
+  /**
+   * A method evaluate that evaluates this polynomial at every value remaining in a buffer and puts
+   * the results into another buffer. The positions of both buffers are advanced past the values
+   * read and the results written.
+   *
+   * @param xs  the values of the variable.
+   * @param out the buffer the results are put into.
+   * @throws BufferOverflowException if out has less room than there are values in xs.
+   */
+  public default void evaluate(DoubleBuffer xs, DoubleBuffer out)
+          throws BufferOverflowException {
+
+    int length = xs.remaining();
+    if (out.remaining() < length) {
+      throw new BufferOverflowException();
+    }
+
+    if (xs.hasArray() && out.hasArray()) {
+      evaluate(xs.array(), xs.arrayOffset() + xs.position(),
+              out.array(), out.arrayOffset() + out.position(), length);
+      xs.position(xs.position() + length);
+      out.position(out.position() + length);
+      return;
+    }
+
+    double[] chunk = new double[Math.min(length, 4096)];
+    while (xs.hasRemaining()) {
+      int count = Math.min(xs.remaining(), chunk.length);
+      xs.get(chunk, 0, count);
+      evaluate(chunk, 0, chunk, 0, count);
+      out.put(chunk, 0, count);
+    }
+  }
+
   /**
    * A method add that takes another Polynomial object and returns the polynomial obtained by adding
    * the two polynomials. Any implementation should ensure that this method does not mutate either
@@ -69,5 +145,54 @@ public interface Polynomial {
    */
   public Polynomial derivative();
 
+  /**
+   * A method multiply that takes another Polynomial object and returns the polynomial obtained by
+   * multiplying the two polynomials. Any implementation should ensure that this method does not
+   * mutate either polynomial. Every term of one polynomial is multiplied with every term of the
+   * other and the products with the same power are added together. For example
+   * (2x^1+1) * (3x^1-1) = 6x^2+1x^1-1.
+   *
+   * @param p2 this method takes another Polynomial as an argument.
+   * @return the result of multiplication of two polynomial.
+   * @throws IllegalArgumentException if the product is too large to be stored.
+   */
+  public default Polynomial multiply(Polynomial p2) {
+    return MultiplicationEngine.SEQUENTIAL.multiply(this, p2);
+  }
+
+  /**
+   * A method terms that returns an iterator over the terms of this polynomial in decreasing order
+   * of power, skipping the terms whose coefficient is zero. This allows the terms of any
+   * implementation to be read without going through its string form.
+   *
+   * @return an iterator over the terms of the polynomial.
+   */
+  public TermIterator terms();
+
+  /**
+   * A method appendTo that appends the text of this polynomial, the same as its toString, to a
+   * destination such as a StringBuilder. The terms are written in decreasing order of power in a
+   * single pass, without building the whole text first unless the destination is a StringBuilder.
+   *
+   * @param out the destination of the text.
+   * @throws IOException if the destination fails.
+   */
+  public default void appendTo(Appendable out) throws IOException {
+    PolynomialFormat.append(terms(), out);
+  }
+
+  /**
+   * A method writeTo that writes the text of this polynomial, the same as its toString, to a
+   * writer and flushes it. The text is handed to the writer a few thousand characters at a time,
+   * so huge polynomials can be written out without holding their whole text. The writer is not
+   * closed.
+   *
+   * @param out the writer the text is written to.
+   * @throws IOException if the writer fails.
+   */
+  public default void writeTo(Writer out) throws IOException {
+    appendTo(out);
+    out.flush();
+  }
 
 }
@@ -0,0 +1,168 @@
+package polynomial;
+
+import java.util.Arrays;
+
+/**
+ * This class collects the terms of a polynomial in bulk and then builds the polynomial in a single
+ * pass. Each term is appended to one primitive array with its power in the high half and its
+ * coefficient in the low half, so adding a term never looks at the terms added before it. Terms
+ * may repeat a power or cancel each other out. When the polynomial is built the array is sorted,
+ * which brings the terms of each power next to each other, and they are added up into the sorted
+ * arrays of a SparsePolynomial.
+ */
+public class PolynomialBuilder implements TermSink {
+
+  private static final int DEFAULT_CAPACITY = 16;
+
+  private long[] terms;
+  private int size;
+
+  /**
+   * This the default constructor that is used to create an empty builder.
+   */
+  public PolynomialBuilder() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  /**
+   * This constructor creates an empty builder with room for the given number of terms.
+   *
+   * @param expectedTerms the number of terms that can be added without growing the builder.
+   * @throws IllegalArgumentException if the number of terms is negative.
+   */
+  public PolynomialBuilder(int expectedTerms) throws IllegalArgumentException {
+    if (expectedTerms < 0) {
+      throw new IllegalArgumentException("capacity cannot be less than zero!!");
+    }
+    this.terms = new long[Math.max(expectedTerms, 1)];
+  }
+
+  /**
+   * This method adds a term to the builder.
+   *
+   * @param coefficient this is the coefficient of the term.
+   * @param power       this is the power of the term.
+   * @return this builder.
+   * @throws IllegalArgumentException if the power is negative.
+   */
+  public PolynomialBuilder addTerm(int coefficient, int power) throws IllegalArgumentException {
+
+    if (power < 0) {
+      throw new IllegalArgumentException("power cannot be less than zero!!");
+    }
+
+    if (coefficient != 0) {
+      ensureCapacity(size + 1);
+      terms[size++] = pack(coefficient, power);
+    }
+    return this;
+  }
+
+  /**
+   * This method adds a term to the builder, so that a PolynomialScanner can feed it directly.
+   *
+   * @param coefficient the coefficient of the term.
+   * @param power       the power of the term.
+   * @throws IllegalArgumentException if the power is negative.
+   */
+  @Override
+  public void accept(int coefficient, int power) throws IllegalArgumentException {
+    addTerm(coefficient, power);
+  }
+
+  /**
+   * This method adds many terms to the builder, given as two arrays of the same length. None of
+   * the terms is added if any of the powers is negative.
+   *
+   * @param coefficients the coefficients of the terms.
+   * @param powers       the powers of the terms.
+   * @return this builder.
+   * @throws IllegalArgumentException if the arrays have different lengths or a power is negative.
+   */
+  public PolynomialBuilder addAll(int[] coefficients, int[] powers)
+          throws IllegalArgumentException {
+
+    if (coefficients.length != powers.length) {
+      throw new IllegalArgumentException("the arrays have different lengths!!");
+    }
+
+    for (int power : powers) {
+      if (power < 0) {
+        throw new IllegalArgumentException("power cannot be less than zero!!");
+      }
+    }
+
+    ensureCapacity(size + coefficients.length);
+    for (int i = 0; i < coefficients.length; i++) {
+      if (coefficients[i] != 0) {
+        terms[size++] = pack(coefficients[i], powers[i]);
+      }
+    }
+    return this;
+  }
+
+  /**
+   * This method builds the polynomial of the terms added so far. The terms are sorted by power and
+   * the terms with the same power are added together, wrapping around like int arithmetic, and
+   * dropping those that cancel out. The builder
+   * can still be used afterwards and does not share anything with the polynomial built.
+   *
+   * @return the polynomial of the terms.
+   */
+  public Polynomial build() {
+
+    Arrays.sort(terms, 0, size);
+
+    int[] powers = new int[Math.max(size, 1)];
+    long[] coefficients = new long[Math.max(size, 1)];
+    int count = 0;
+
+    int i = 0;
+    while (i < size) {
+      int power = (int) (terms[i] >>> 32);
+      long sum = 0;
+      for (; i < size && (int) (terms[i] >>> 32) == power; i++) {
+        sum += (int) terms[i];
+      }
+      sum = Polynomials.wrap(sum);
+      if (sum != 0) {
+        powers[count] = power;
+        coefficients[count] = sum;
+        count++;
+      }
+    }
+
+    return new SparsePolynomial(powers, coefficients, count);
+  }
+
+  /**
+   * This method drops every term added so far.
+   */
+  public void clear() {
+    size = 0;
+  }
+
+  /**
+   * This method packs a term into a single long with the power in the high half, so that sorting
+   * the packed terms sorts them by power.
+   *
+   * @param coefficient the coefficient of the term.
+   * @param power       the power of the term, which cannot be negative.
+   * @return the packed term.
+   */
+  private static long pack(int coefficient, int power) {
+    return ((long) power << 32) | (coefficient & 0xFFFFFFFFL);
+  }
+
+  /**
+   * This method grows the array of terms so that it can hold at least the given number of terms.
+   *
+   * @param capacity the number of terms that should fit in the array.
+   */
+  private void ensureCapacity(int capacity) {
+    if (capacity > terms.length) {
+      terms = Arrays.copyOf(terms, Math.max(capacity, terms.length * 2));
+    }
+  }
+
+}
@@ -0,0 +1,543 @@
+package polynomial;
+
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * This class encodes polynomials into a compact binary form and decodes them back. Every number is
+ * written as a varint: seven bits per byte, the lowest first, with the high bit of a byte set when
+ * another byte follows. An encoded polynomial starts with the number of bytes that follow and the
+ * number of terms. The terms come next in decreasing order of power, each as the distance from the
+ * power of the previous term, or the power itself for the first term, followed by the coefficient
+ * in zigzag form so that small negative coefficients stay short. A term of a typical polynomial
+ * therefore takes two or three bytes.
+ *
+ * <p>Decoding does not copy the bytes: it checks them once and returns an EncodedPolynomial that
+ * reads its terms from the same buffer, so the buffer should not be changed while the polynomial
+ * is in use. The Encoder and Decoder classes send many polynomials over a channel one after the
+ * other.
+ */
+public final class PolynomialCodec {
+
+  private static final int STAGING_SIZE = 1 << 16;
+  private static final int MAX_FRAME_SIZE = Integer.MAX_VALUE;
+  private static final String INCORRECT = "The encoded polynomial is incorrect!";
+
+  /**
+   * This is a private constructor as the class only has static methods.
+   */
+  private PolynomialCodec() {
+  }
+
+  /**
+   * This method returns the number of bytes a polynomial takes once encoded.
+   *
+   * @param p the polynomial.
+   * @return the size of the encoded polynomial.
+   */
+  public static int encodedSize(Polynomial p) {
+    int bodySize = bodySize(TermLayout.of(p));
+    return varintSize(bodySize) + bodySize;
+  }
+
+  /**
+   * This method encodes a polynomial into a new buffer, which is ready to be read.
+   *
+   * @param p the polynomial.
+   * @return the buffer holding the encoded polynomial.
+   */
+  public static ByteBuffer encode(Polynomial p) {
+    TermLayout layout = TermLayout.of(p);
+    int bodySize = bodySize(layout);
+    ByteBuffer out = ByteBuffer.allocate(varintSize(bodySize) + bodySize);
+    write(layout, bodySize, out);
+    out.flip();
+    return out;
+  }
+
+  /**
+   * This method encodes a polynomial into a buffer, starting at its position. Nothing is written
+   * if the polynomial does not fit in the space remaining.
+   *
+   * @param p   the polynomial.
+   * @param out the buffer the polynomial is written to.
+   * @throws BufferOverflowException if the polynomial does not fit in the buffer.
+   */
+  public static void encode(Polynomial p, ByteBuffer out) throws BufferOverflowException {
+    TermLayout layout = TermLayout.of(p);
+    int bodySize = bodySize(layout);
+    if (out.remaining() < varintSize(bodySize) + bodySize) {
+      throw new BufferOverflowException();
+    }
+    write(layout, bodySize, out);
+  }
+
+  /**
+   * This method decodes the polynomial that starts at the position of a buffer and moves the
+   * position past it. The bytes are checked but not copied.
+   *
+   * @param in the buffer the polynomial is read from.
+   * @return the polynomial.
+   * @throws BufferUnderflowException  if the buffer ends before the polynomial, in which case the
+   *                                   position is not moved.
+   * @throws PolynomialFormatException if the bytes are not a correctly encoded polynomial; the
+   *                                   offset of the error is counted in bytes from the start of
+   *                                   the polynomial.
+   */
+  public static EncodedPolynomial decode(ByteBuffer in)
+          throws BufferUnderflowException, PolynomialFormatException {
+
+    int start = in.position();
+    int end = in.limit();
+
+    long bodySize = 0;
+    int position = start;
+    for (int shift = 0; ; shift += 7) {
+      if (position == end) {
+        throw new BufferUnderflowException();
+      }
+      byte b = in.get(position++);
+      if (shift == 28 && (b & 0xF8) != 0) {
+        throw new PolynomialFormatException(INCORRECT, position - 1 - start);
+      }
+      bodySize |= (long) (b & 0x7F) << shift;
+      if (b >= 0) {
+        break;
+      }
+    }
+    if (bodySize > end - position) {
+      throw new BufferUnderflowException();
+    }
+
+    ByteBuffer body = in.duplicate();
+    body.limit(position + (int) bodySize);
+    body.position(position);
+    body = body.slice();
+
+    EncodedPolynomial p = check(body, position - start);
+    in.position(position + (int) bodySize);
+    return p;
+  }
+
+  /**
+   * This method encodes a polynomial and writes it to a channel.
+   *
+   * @param p       the polynomial.
+   * @param channel the channel the polynomial is written to.
+   * @throws IOException if the channel cannot be written.
+   */
+  public static void write(Polynomial p, WritableByteChannel channel) throws IOException {
+    ByteBuffer out = encode(p);
+    while (out.hasRemaining()) {
+      channel.write(out);
+    }
+  }
+
+  /**
+   * This method returns the number of bytes a number takes as a varint.
+   *
+   * @param value the number, read as unsigned.
+   * @return the number of bytes.
+   */
+  static int varintSize(long value) {
+    return (64 - Long.numberOfLeadingZeros(value | 1) + 6) / 7;
+  }
+
+  /**
+   * This method writes a number as a varint.
+   *
+   * @param out   the buffer the number is written to.
+   * @param value the number, read as unsigned.
+   */
+  static void putVarint(ByteBuffer out, long value) {
+    while ((value & ~0x7FL) != 0) {
+      out.put((byte) (value | 0x80));
+      value >>>= 7;
+    }
+    out.put((byte) value);
+  }
+
+  /**
+   * This method maps a signed number onto an unsigned one so that numbers close to zero, whatever
+   * their sign, become small.
+   *
+   * @param value the signed number.
+   * @return the zigzag form of the number.
+   */
+  static long zigzag(long value) {
+    return (value << 1) ^ (value >> 63);
+  }
+
+  /**
+   * This method turns the zigzag form of a number back into the signed number.
+   *
+   * @param value the zigzag form of the number.
+   * @return the signed number.
+   */
+  static long unzigzag(long value) {
+    return (value >>> 1) ^ -(value & 1);
+  }
+
+  /**
+   * This method returns the number of bytes the terms of a polynomial take, including their count.
+   *
+   * @param layout the terms of the polynomial.
+   * @return the number of bytes.
+   */
+  private static int bodySize(TermLayout layout) {
+
+    long size = varintSize(layout.size());
+    int previous = 0;
+    boolean first = true;
+    TermIterator terms = layout.terms();
+    while (terms.next()) {
+      int power = terms.getPower();
+      size += varintSize(first ? power : previous - power) + varintSize(zigzag(
+              terms.getCoefficient()));
+      previous = power;
+      first = false;
+    }
+
+    if (size > Integer.MAX_VALUE - 5) {
+      throw new IllegalArgumentException("the polynomial is too large to be encoded");
+    }
+    return (int) size;
+  }
+
+  /**
+   * This method writes the encoded form of a polynomial.
+   *
+   * @param layout   the terms of the polynomial.
+   * @param bodySize the number of bytes of the terms, including their count.
+   * @param out      the buffer the polynomial is written to, which has enough room for it.
+   */
+  private static void write(TermLayout layout, int bodySize, ByteBuffer out) {
+
+    putVarint(out, bodySize);
+    putVarint(out, layout.size());
+
+    int previous = 0;
+    boolean first = true;
+    TermIterator terms = layout.terms();
+    while (terms.next()) {
+      int power = terms.getPower();
+      putVarint(out, first ? power : previous - power);
+      putVarint(out, zigzag(terms.getCoefficient()));
+      previous = power;
+      first = false;
+    }
+  }
+
+  /**
+   * This method checks that the bytes of an encoded polynomial are correct and creates the
+   * polynomial over them.
+   *
+   * @param body   the bytes following the size of the polynomial.
+   * @param offset the offset of the body from the start of the polynomial.
+   * @return the polynomial.
+   * @throws PolynomialFormatException if the bytes are not correct.
+   */
+  private static EncodedPolynomial check(ByteBuffer body, int offset)
+          throws PolynomialFormatException {
+
+    Checker checker = new Checker(body, offset);
+    long count = checker.varint(5);
+    if (count > body.limit() / 2) {
+      throw checker.error();
+    }
+    int termsStart = checker.position;
+
+    long power = 0;
+    long degree = 0;
+    for (long i = 0; i < count; i++) {
+      long delta = checker.varint(5);
+      power = (i == 0) ? delta : power - delta;
+      if ((i > 0 && delta == 0) || power < 0 || power > Integer.MAX_VALUE) {
+        throw checker.error();
+      }
+      if (i == 0) {
+        degree = power;
+      }
+      long coefficient = unzigzag(checker.varint(10));
+      if (coefficient == 0 || coefficient != (int) coefficient) {
+        throw checker.error();
+      }
+    }
+
+    if (checker.position != body.limit()) {
+      throw checker.error();
+    }
+
+    body.position(termsStart);
+    return new EncodedPolynomial(body.slice(), (int) count, (int) degree);
+  }
+
+  /**
+   * This class reads the varints of an encoded polynomial while checking them.
+   */
+  private static final class Checker {
+
+    private final ByteBuffer body;
+    private final int offset;
+    private int position;
+
+    /**
+     * This a constructor that is used to create the checker.
+     *
+     * @param body   the bytes to be checked.
+     * @param offset the offset of the bytes from the start of the polynomial.
+     */
+    Checker(ByteBuffer body, int offset) {
+      this.body = body;
+      this.offset = offset;
+    }
+
+    /**
+     * This method reads a varint.
+     *
+     * @param maxBytes the largest number of bytes the varint may take.
+     * @return the number, read as unsigned.
+     * @throws PolynomialFormatException if the varint is too long or goes past the end.
+     */
+    long varint(int maxBytes) throws PolynomialFormatException {
+      long value = 0;
+      for (int i = 0; i < maxBytes; i++) {
+        if (position == body.limit()) {
+          throw error();
+        }
+        byte b = body.get(position++);
+        value |= (long) (b & 0x7F) << (7 * i);
+        if (b >= 0) {
+          return value;
+        }
+      }
+      throw error();
+    }
+
+    /**
+     * This method creates the exception for an error found at the current position.
+     *
+     * @return the exception.
+     */
+    PolynomialFormatException error() {
+      return new PolynomialFormatException(INCORRECT, offset + position);
+    }
+
+  }
+
+  /**
+   * This class writes encoded polynomials to a channel through a buffer, so that many small
+   * polynomials are sent in few writes. The channel is not closed by the encoder.
+   */
+  public static final class Encoder {
+
+    private final WritableByteChannel channel;
+    private final ByteBuffer staging;
+
+    /**
+     * This a constructor that is used to create an encoder writing to a channel.
+     *
+     * @param channel the channel the polynomials are written to.
+     */
+    public Encoder(WritableByteChannel channel) {
+      this.channel = channel;
+      this.staging = ByteBuffer.allocate(STAGING_SIZE);
+    }
+
+    /**
+     * This method encodes a polynomial. It may be kept in the buffer until the buffer is full or
+     * flush is called.
+     *
+     * @param p the polynomial.
+     * @throws IOException if the channel cannot be written.
+     */
+    public void write(Polynomial p) throws IOException {
+
+      TermLayout layout = TermLayout.of(p);
+      int bodySize = bodySize(layout);
+      int size = varintSize(bodySize) + bodySize;
+
+      if (size > staging.remaining()) {
+        flush();
+      }
+      if (size > staging.capacity()) {
+        ByteBuffer out = ByteBuffer.allocate(size);
+        PolynomialCodec.write(layout, bodySize, out);
+        out.flip();
+        drain(out);
+      } else {
+        PolynomialCodec.write(layout, bodySize, staging);
+      }
+    }
+
+    /**
+     * This method writes every polynomial kept in the buffer to the channel.
+     *
+     * @throws IOException if the channel cannot be written.
+     */
+    public void flush() throws IOException {
+      staging.flip();
+      drain(staging);
+      staging.clear();
+    }
+
+    /**
+     * This method writes the whole content of a buffer to the channel.
+     *
+     * @param out the buffer.
+     * @throws IOException if the channel cannot be written.
+     */
+    private void drain(ByteBuffer out) throws IOException {
+      while (out.hasRemaining()) {
+        channel.write(out);
+      }
+    }
+
+  }
+
+  /**
+   * This class reads encoded polynomials from a channel, one after the other. The bytes of each
+   * polynomial are read into a buffer of its own, which the polynomial returned then reads from.
+   * The buffer grows as the bytes arrive rather than being allocated from the size announced at
+   * the start of the polynomial, so a corrupted or hostile size cannot make the decoder allocate
+   * memory for bytes that never come, and a polynomial larger than the maximum frame size is
+   * rejected before anything is allocated for it. The channel should be in blocking mode, and it
+   * is not closed by the decoder.
+   */
+  public static final class Decoder {
+
+    private final ReadableByteChannel channel;
+    private final ByteBuffer staging;
+    private final int maxFrameSize;
+
+    /**
+     * This a constructor that is used to create a decoder reading from a channel, which accepts
+     * polynomials of any size the encoder can produce.
+     *
+     * @param channel the channel the polynomials are read from.
+     */
+    public Decoder(ReadableByteChannel channel) {
+      this(channel, MAX_FRAME_SIZE);
+    }
+
+    /**
+     * This a constructor that is used to create a decoder reading from a channel, which rejects
+     * the polynomials that take more than the given number of bytes once encoded.
+     *
+     * @param channel      the channel the polynomials are read from.
+     * @param maxFrameSize the largest number of bytes of an encoded polynomial, including its
+     *                     size.
+     * @throws IllegalArgumentException if the maximum frame size is not positive.
+     */
+    public Decoder(ReadableByteChannel channel, int maxFrameSize) throws IllegalArgumentException {
+      if (maxFrameSize < 1) {
+        throw new IllegalArgumentException("the maximum frame size must be positive!!");
+      }
+      this.channel = channel;
+      this.staging = ByteBuffer.allocate(STAGING_SIZE);
+      this.staging.flip();
+      this.maxFrameSize = maxFrameSize;
+    }
+
+    /**
+     * This method reads the next polynomial.
+     *
+     * @return the polynomial, or null if the channel has ended.
+     * @throws IOException               if the channel cannot be read or ends in the middle of a
+     *                                   polynomial.
+     * @throws PolynomialFormatException if the bytes are not a correctly encoded polynomial, or if
+     *                                   the polynomial is larger than the maximum frame size; the
+     *                                   offset of the error is counted in bytes from the start of
+     *                                   the polynomial.
+     */
+    public EncodedPolynomial read() throws IOException, PolynomialFormatException {
+
+      int prefix = 0;
+      long bodySize = 0;
+      while (true) {
+        if (prefix == staging.remaining() && !fill()) {
+          if (prefix == 0) {
+            return null;
+          }
+          throw new IOException("the channel ended in the middle of a polynomial");
+        }
+        byte b = staging.get(staging.position() + prefix);
+        if (prefix == 4 && (b & 0xF8) != 0) {
+          throw new PolynomialFormatException(INCORRECT, prefix);
+        }
+        bodySize |= (long) (b & 0x7F) << (7 * prefix);
+        prefix++;
+        if (b >= 0) {
+          break;
+        }
+      }
+
+      if (prefix + bodySize > maxFrameSize) {
+        throw new PolynomialFormatException("The encoded polynomial is too large!", prefix - 1);
+      }
+
+      int frameSize = prefix + (int) bodySize;
+      int buffered = Math.min(staging.remaining(), frameSize);
+      ByteBuffer encoded = ByteBuffer.allocate(Math.min(frameSize, Math.max(buffered,
+              STAGING_SIZE)));
+      ByteBuffer chunk = staging.duplicate();
+      chunk.limit(chunk.position() + buffered);
+      encoded.put(chunk);
+      staging.position(staging.position() + buffered);
+
+      while (encoded.position() < frameSize) {
+        if (!encoded.hasRemaining()) {
+          encoded = grow(encoded, frameSize);
+        }
+        if (channel.read(encoded) < 0) {
+          throw new IOException("the channel ended in the middle of a polynomial");
+        }
+      }
+      encoded.flip();
+      return decode(encoded);
+    }
+
+    /**
+     * This method replaces a full buffer by one twice as large, or as large as the polynomial
+     * if that is smaller, keeping the bytes already read.
+     *
+     * @param encoded   the full buffer.
+     * @param frameSize the number of bytes of the polynomial.
+     * @return the larger buffer, positioned after the bytes already read.
+     */
+    private static ByteBuffer grow(ByteBuffer encoded, int frameSize) {
+      ByteBuffer larger = ByteBuffer.allocate((int) Math.min(frameSize,
+              2L * encoded.capacity()));
+      encoded.flip();
+      larger.put(encoded);
+      return larger;
+    }
+
+    /**
+     * This method reads more bytes from the channel into the buffer, keeping the bytes not used
+     * yet.
+     *
+     * @return true if some bytes were read, false if the channel has ended.
+     * @throws IOException if the channel cannot be read.
+     */
+    private boolean fill() throws IOException {
+      staging.compact();
+      try {
+        int read;
+        do {
+          read = channel.read(staging);
+        }
+        while (read == 0);
+        return read > 0;
+      } finally {
+        staging.flip();
+      }
+    }
+
+  }
+
+}
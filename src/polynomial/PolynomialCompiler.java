@@ -0,0 +1,135 @@
+package polynomial;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * This class compiles a polynomial into a specialized evaluator. The terms of the polynomial are
+ * turned into a chain of method handles with every coefficient and every gap between powers bound
+ * as a constant, one Horner step per term, so there are no arrays to load and no bounds to check
+ * when the evaluator runs. Once the evaluator is reachable from a constant, such as a static final
+ * field, the JIT can inline the whole chain into straight-line code.
+ *
+ * <p>The evaluator is a snapshot: changing the polynomial afterwards does not affect it.
+ */
+public final class PolynomialCompiler {
+
+  private static final int MAX_UNROLLED_TERMS = 64;
+
+  private static final MethodHandle STEP;
+  private static final MethodHandle GAP_STEP;
+  private static final MethodHandle SCALE;
+
+  static {
+    try {
+      MethodHandles.Lookup lookup = MethodHandles.lookup();
+      STEP = lookup.findStatic(PolynomialCompiler.class, "step",
+              MethodType.methodType(double.class, double.class, double.class, double.class));
+      GAP_STEP = lookup.findStatic(PolynomialCompiler.class, "gapStep",
+              MethodType.methodType(double.class, double.class, double.class, int.class,
+                      double.class));
+      SCALE = lookup.findStatic(PolynomialCompiler.class, "scale",
+              MethodType.methodType(double.class, double.class, double.class, int.class));
+    } catch (ReflectiveOperationException e) {
+      throw new ExceptionInInitializerError(e);
+    }
+  }
+
+  /**
+   * This is a private constructor as the class only holds static methods.
+   */
+  private PolynomialCompiler() {
+  }
+
+  /**
+   * This method compiles a polynomial into an evaluator. Polynomials with more terms than can be
+   * usefully unrolled are compiled into an evaluator running Horner's scheme over a private copy
+   * of the terms instead.
+   *
+   * @param p the polynomial to be compiled.
+   * @return a function that evaluates the polynomial.
+   */
+  public static DoubleUnaryOperator compile(Polynomial p) {
+
+    TermLayout layout = TermLayout.of(p.terms());
+
+    if (layout.size() > MAX_UNROLLED_TERMS) {
+      return layout::evaluate;
+    }
+
+    TermIterator terms = layout.terms();
+
+    if (!terms.next()) {
+      return x -> 0;
+    }
+
+    MethodHandle chain = MethodHandles.dropArguments(
+            MethodHandles.constant(double.class, (double) terms.getCoefficient()), 0, double.class);
+    int power = terms.getPower();
+
+    while (terms.next()) {
+      int gap = power - terms.getPower();
+      double coefficient = terms.getCoefficient();
+      MethodHandle step = gap == 1
+              ? MethodHandles.insertArguments(STEP, 2, coefficient)
+              : MethodHandles.insertArguments(GAP_STEP, 2, gap, coefficient);
+      chain = MethodHandles.foldArguments(step, chain);
+      power = terms.getPower();
+    }
+
+    if (power != 0) {
+      chain = MethodHandles.foldArguments(MethodHandles.insertArguments(SCALE, 2, power), chain);
+    }
+
+    final MethodHandle evaluator = chain;
+    return x -> {
+      try {
+        return (double) evaluator.invokeExact(x);
+      } catch (RuntimeException | Error e) {
+        throw e;
+      } catch (Throwable e) {
+        throw new IllegalStateException(e);
+      }
+    };
+  }
+
+  /**
+   * This method is one Horner step between two consecutive powers.
+   *
+   * @param result      the value accumulated so far.
+   * @param x           the value of the variable.
+   * @param coefficient the coefficient of the next term.
+   * @return the value accumulated including the next term.
+   */
+  private static double step(double result, double x, double coefficient) {
+    return result * x + coefficient;
+  }
+
+  /**
+   * This method is one Horner step between two powers that are more than one apart.
+   *
+   * @param result      the value accumulated so far.
+   * @param x           the value of the variable.
+   * @param gap         the difference between the two powers.
+   * @param coefficient the coefficient of the next term.
+   * @return the value accumulated including the next term.
+   */
+  private static double gapStep(double result, double x, int gap, double coefficient) {
+    return result * HornerEvaluator.pow(x, gap) + coefficient;
+  }
+
+  /**
+   * This method multiplies the accumulated value by the lowest power of the polynomial.
+   *
+   * @param result the value accumulated so far.
+   * @param x      the value of the variable.
+   * @param power  the lowest power of the polynomial.
+   * @return the value of the polynomial.
+   */
+  private static double scale(double result, double x, int power) {
+    return result * HornerEvaluator.pow(x, power);
+  }
+
+}
@@ -0,0 +1,108 @@
+package polynomial;
+
+import java.io.IOException;
+
+/**
+ * This class writes the terms of a polynomial in the text form used by toString, such as
+ * "-2x^5+1x^4+11x^1-5", in decreasing order of power and in a single pass. A polynomial without
+ * any terms is written as "0". The text is built in one buffer and handed over to the destination
+ * in chunks, so a huge polynomial can be written out without ever holding its whole text.
+ */
+final class PolynomialFormat {
+
+  private static final int CHUNK_SIZE = 8192;
+  private static final int CHARS_PER_TERM = 12;
+
+  /**
+   * This is a private constructor as the class only has static methods.
+   */
+  private PolynomialFormat() {
+  }
+
+  /**
+   * This method returns the text of a sequence of terms, using a buffer sized for the expected
+   * number of terms.
+   *
+   * @param terms the terms in decreasing order of power.
+   * @param count the expected number of terms.
+   * @return the text of the terms.
+   */
+  static String toString(TermIterator terms, int count) {
+    StringBuilder text = new StringBuilder(
+            (int) Math.min(Integer.MAX_VALUE - 8, 1L + (long) count * CHARS_PER_TERM));
+    append(terms, text);
+    return text.toString();
+  }
+
+  /**
+   * This method appends the text of a sequence of terms to a StringBuilder.
+   *
+   * @param terms the terms in decreasing order of power.
+   * @param text  the StringBuilder the text is appended to.
+   */
+  static void append(TermIterator terms, StringBuilder text) {
+
+    boolean first = true;
+    while (terms.next()) {
+      appendTerm(text, terms.getCoefficient(), terms.getPower(), first);
+      first = false;
+    }
+
+    if (first) {
+      text.append('0');
+    }
+  }
+
+  /**
+   * This method appends the text of a sequence of terms to any destination. The text is built in
+   * a buffer that is handed over to the destination every few thousand characters.
+   *
+   * @param terms the terms in decreasing order of power.
+   * @param out   the destination of the text.
+   * @throws IOException if the destination fails.
+   */
+  static void append(TermIterator terms, Appendable out) throws IOException {
+
+    if (out instanceof StringBuilder) {
+      append(terms, (StringBuilder) out);
+      return;
+    }
+
+    StringBuilder text = new StringBuilder(CHUNK_SIZE + CHARS_PER_TERM * 2);
+    boolean first = true;
+    while (terms.next()) {
+      appendTerm(text, terms.getCoefficient(), terms.getPower(), first);
+      first = false;
+      if (text.length() >= CHUNK_SIZE) {
+        out.append(text);
+        text.setLength(0);
+      }
+    }
+
+    if (first) {
+      text.append('0');
+    }
+    out.append(text);
+  }
+
+  /**
+   * This method appends the text of a single term. Every term but the first one starts with its
+   * sign, and the power is left out for the constant term.
+   *
+   * @param text        the StringBuilder the text is appended to.
+   * @param coefficient the coefficient of the term.
+   * @param power       the power of the term.
+   * @param first       true if this is the first term of the polynomial.
+   */
+  private static void appendTerm(StringBuilder text, long coefficient, int power,
+                                 boolean first) {
+    if (coefficient > 0 && !first) {
+      text.append('+');
+    }
+    text.append(coefficient);
+    if (power != 0) {
+      text.append("x^").append(power);
+    }
+  }
+
+}
@@ -0,0 +1,34 @@
+package polynomial;
+
+/**
+ * This exception is thrown when the text of a polynomial cannot be parsed. Besides the message it
+ * records the offset of the character at which the problem was found.
+ */
+public class PolynomialFormatException extends IllegalArgumentException {
+
+  private static final long serialVersionUID = 1L;
+
+  private final long errorOffset;
+
+  /**
+   * This a constructor that is used to create the exception.
+   *
+   * @param message     the description of the problem.
+   * @param errorOffset the offset of the character at which the problem was found.
+   */
+  public PolynomialFormatException(String message, long errorOffset) {
+    super(message);
+    this.errorOffset = errorOffset;
+  }
+
+  /**
+   * This is a getter method that is used to get the offset of the character at which the problem
+   * was found, counted from the start of the text.
+   *
+   * @return the offset of the error.
+   */
+  public long getErrorOffset() {
+    return errorOffset;
+  }
+
+}
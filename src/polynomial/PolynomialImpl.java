@@ -1,62 +1,39 @@
 package polynomial;
 
-import java.util.StringTokenizer;
-import java.util.function.Function;
-import java.util.function.Predicate;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.Arrays;
 
 /**
  * This is the concrete implementation of the Polynomial interface. This class provides the
  * implementation of the set of methods that are used to create and perform operations over a
  * polynomial.
  */
-public class PolynomialImpl implements Polynomial {
+public class PolynomialImpl implements LayoutPolynomial {
 
   private PolynomialNode head;
+  private PowerIndex<TermNode> index;
+  private TermLayout layout;
+  private EvaluationCache evaluationCache;
+  private int hash;
 
   /**
    * This the default constructor that is used to initialize the polynomial.
    */
   public PolynomialImpl() {
     head = new EmptyNode();
+    index = new PowerIndex<>();
   }
 
   /**
    * This constructor takes a polynomial as a string, parses it and creates the polynomial
-   * accordingly. The string contains the polynomial, with each term separated by a space.
+   * accordingly. The string contains the polynomial, with each term separated by a space. The
+   * string is read in a single pass by PolynomialScanner.
    *
    * @param polynomial this method takes a polynomial in the form of string.
+   * @throws IllegalArgumentException if the polynomial is incorrect.
    */
   public PolynomialImpl(String polynomial) throws IllegalArgumentException {
     this();
-
-    String ph = returnVariable(polynomial);
-
-    if (polynomial.matches("^[0-9](.)*")) {
-      polynomial = "+" + polynomial;
-    }
-
-    StringTokenizer token = new StringTokenizer(polynomial, " ");
-    while (token.hasMoreTokens()) {
-      String term = preprocessTerms(token.nextToken(), ph);
-
-      Pattern pat = Pattern.compile("^[+\\-]+[0-9]+" + ph + "[\\^]{1}[0-9]+$");
-      Matcher mat = pat.matcher(term);
-
-      if (mat.find()) {
-
-        Integer coeff = Integer.parseInt(term.substring(0, term.indexOf(ph)));
-        Integer power = Integer.parseInt(term.substring(term.indexOf('^') + 1));
-
-        this.addTerm(coeff, power);
-      } else {
-        throw new IllegalArgumentException("The polynomial is incorrect!");
-      }
-
-
-    }
-
+    PolynomialScanner.parse(polynomial, this::addTerm);
   }
 
 
@@ -68,12 +45,17 @@ public class PolynomialImpl implements Polynomial {
    */
   private PolynomialImpl(PolynomialNode head) {
     this.head = head;
+    this.index = new PowerIndex<>();
+    for (PolynomialNode node = head; node instanceof TermNode; node = node.getRest()) {
+      index.put(node.getData().getPower(), (TermNode) node);
+    }
   }
 
   /**
    * The addition is performed by combining all the terms and adding the coefficients of the terms
    * with the same power. For example (3𝑥4−5𝑥3+2𝑥−4) + (2𝑥3+2𝑥2+4) = 3𝑥4−3𝑥3+2𝑥2+2𝑥. The
-   * degree of the sum is the maximum of the degrees of the two polynomials.
+   * degree of the sum is the maximum of the degrees of the two polynomials. The node holding each
+   * power is found through an index, so adding a term takes constant expected time.
    *
    * @param coefficient this is the coefficient of the term.
    * @param power       this is the power of the term.
@@ -90,30 +72,28 @@ public class PolynomialImpl implements Polynomial {
       throw new IllegalArgumentException("power cannot be less than zero!!");
     }
 
+    layout = null;
+    hash = 0;
+    if (evaluationCache != null) {
+      evaluationCache.invalidate();
+    }
 
-    if (this.getCoefficient(power) != 0) {
-      PolynomialNode term = head.filter(e -> {
-
-        TermNode t = (TermNode) e;
-
-        return t.getData().getPower() == power;
-
-      });
+    TermNode node = index.get(power);
 
-      TermNode t = (TermNode) term;
+    if (node == null) {
+      head = head.addFront(new Term(coefficient, power));
+      index.put(power, (TermNode) head);
+      return;
+    }
 
-      if (t.getData().getCoefficient() + coefficient == 0) {
-        this.removeTerm(t.getData().getCoefficient(), t.getData().getPower());
-      } else {
-        t.getData().setCoefficient(t.getData().getCoefficient() + coefficient);
-      }
+    Term term = node.getData();
 
+    if (term.getCoefficient() + coefficient == 0) {
+      this.removeNode(node);
     } else {
-      Term polyTerm = new Term(coefficient, power);
-      head = head.addToBack(polyTerm);
+      term.setCoefficient(term.getCoefficient() + coefficient);
     }
 
-
   }
 
   /**
@@ -126,24 +106,13 @@ public class PolynomialImpl implements Polynomial {
   @Override
   public int getCoefficient(int power) {
 
+    TermNode node = index.get(power);
 
-    PolynomialNode term = head.filter(e -> {
-
-      TermNode t = (TermNode) e;
-
-      return t.getData().getPower() == power;
-
-    });
-
-    if (!(term instanceof EmptyNode)) {
-
-      TermNode a = (TermNode) term;
-
-      return a.getData().getCoefficient();
-    } else {
+    if (node == null) {
       return 0;
     }
 
+    return node.getData().getCoefficient();
   }
 
 
@@ -161,25 +130,76 @@ public class PolynomialImpl implements Polynomial {
 
   /**
    * A method evaluate that takes a double-precision decimal number and returns a double-precision
-   * result which is the evaluation of this polynomial using this argument’s value.
+   * result which is the evaluation of this polynomial using this argument’s value. The terms are
+   * evaluated with Horner's scheme over a sorted primitive copy of the terms, which is kept until
+   * the polynomial is changed.
    *
    * @param x this method takes in a variable.
    * @return it returns the evaluated result.
    */
   @Override
   public double evaluate(double x) {
+    if (evaluationCache != null) {
+      return evaluationCache.evaluate(x, layout());
+    }
+    return layout().evaluate(x);
+  }
 
-    double result = head.reduce((c, p) -> {
-
-
-      double res = (Integer) c * Math.pow(x, (Integer) p);
-
-      return res;
+  /**
+   * A method evaluate that evaluates this polynomial at a range of values of an array and writes
+   * the results into a range of another array. The two ranges may be the same.
+   *
+   * @param xs        the values of the variable.
+   * @param xsOffset  the index of the first value in xs.
+   * @param out       the array the results are written to.
+   * @param outOffset the index in out of the first result.
+   * @param length    the number of values to be evaluated.
+   * @throws IndexOutOfBoundsException if the range does not fit in either array.
+   */
+  @Override
+  public void evaluate(double[] xs, int xsOffset, double[] out, int outOffset, int length)
+          throws IndexOutOfBoundsException {
+    HornerEvaluator.checkRange(xs, xsOffset, out, outOffset, length);
+    layout().evaluate(xs, xsOffset, out, outOffset, length);
+  }
 
-    });
+  /**
+   * This method makes evaluate remember the values of this polynomial at the points it was
+   * recently evaluated at, so that evaluating it again at exactly the same point does not go
+   * through the terms. The values are forgotten whenever a term is added. The cache is meant for
+   * polynomials that are evaluated over and over at a small set of points; once it is enabled,
+   * evaluate must not be called from several threads at the same time. The batch evaluate methods
+   * do not use the cache.
+   *
+   * @param capacity the number of points remembered, rounded up to a power of two.
+   * @throws IllegalArgumentException if the capacity is not positive.
+   */
+  public void enableEvaluationCache(int capacity) throws IllegalArgumentException {
+    if (capacity < 1) {
+      throw new IllegalArgumentException("capacity must be positive!!");
+    }
+    evaluationCache = new EvaluationCache(capacity);
+  }
 
-    return result;
+  /**
+   * This method stops evaluate from remembering values and drops the values remembered so far.
+   */
+  public void disableEvaluationCache() {
+    evaluationCache = null;
+  }
 
+  /**
+   * This method returns the counters of the evaluation cache, which tell how often evaluate found
+   * the value of a point in the cache.
+   *
+   * @return the hits, misses and evictions counted since the cache was enabled, or all zeros if
+   *         the cache is not enabled.
+   */
+  public CacheStats getEvaluationCacheStats() {
+    if (evaluationCache == null) {
+      return new CacheStats(0, 0, 0);
+    }
+    return evaluationCache.stats();
   }
 
   /**
@@ -188,21 +208,14 @@ public class PolynomialImpl implements Polynomial {
    * polynomial.The addition is performed by combining all the terms and adding the coefficients of
    * the terms with the same power. For example (3x^4−5x^3+2x−4) + (2x^3+2x^2+4) =
    * 3x^4−3x^3+2x^2+2x. The degree of the sum is the maximum of the degrees of the two polynomials.
+   * The terms of both polynomials are merged directly in order of power.
    *
    * @param p2 this method takes another Polynomial as an argument.
    * @return the result of addition of two polynomial.
    */
   @Override
   public Polynomial add(Polynomial p2) {
-
-    String polynomial1 = preprocessForAddition(this.toString());
-
-    String polynomial2 = preprocessForAddition(p2.toString());
-
-    String polynomialcom = polynomial1 + polynomial2;
-
-    return new PolynomialImpl(polynomialcom);
-
+    return fromTerms(new TermMerger(this.terms(), p2.terms()));
   }
 
 
@@ -210,216 +223,168 @@ public class PolynomialImpl implements Polynomial {
    * A method derivative that takes no parameters and returns the polynomial obtained by
    * differentiating this polynomial.The derivative of a term 𝑎𝑥𝑏 is a term with coefficient ab
    * with the variable raised to the power b−1. The derivative of a constant term (x^0) is 0. For
-   * example the derivative of 3x^4−5x^3+2x−4 is 12x^3−15x^2+2.
+   * example the derivative of 3x^4−5x^3+2x−4 is 12x^3−15x^2+2. The terms are taken from the
+   * sorted layout, so a term whose coefficient wraps around to zero is dropped.
    *
    * @return the polynomial after performing derivative.
    */
   @Override
   public Polynomial derivative() {
-    return filter(x -> {
-      TermNode t = (TermNode) x;
+    return fromTerms(layout().derivative().terms());
+  }
 
-      return t.getData().getPower() != 0;
 
-    }).map(e -> {
-      Term term = (Term) e;
+  /**
+   * A method multiply that takes another Polynomial object and returns the polynomial obtained by
+   * multiplying the two polynomials. Neither polynomial is mutated.
+   *
+   * @param p2 this method takes another Polynomial as an argument.
+   * @return the result of multiplication of two polynomial.
+   */
+  @Override
+  public Polynomial multiply(Polynomial p2) {
+    return fromTerms(MultiplicationEngine.SEQUENTIAL.multiply(this, p2).terms());
+  }
 
-      Term newterm = new Term(term.getCoefficient() * term.getPower(), term.getPower() - 1);
 
-      return newterm;
-    });
+  /**
+   * A method terms that returns an iterator over the terms of this polynomial in decreasing order
+   * of power, skipping the terms whose coefficient is zero.
+   *
+   * @return an iterator over the terms of the polynomial.
+   */
+  @Override
+  public TermIterator terms() {
+    return layout().terms();
   }
 
 
   /**
    * The toString method is overridden to return the polynomial in sorted order in terms of power.
+   * The terms are read from the sorted layout and written into a single buffer sized for them.
    *
    * @return the polynomial in the form of string.
    */
   @Override
   public String toString() {
-
-
-    PolynomialNode iterator = head.sortByPower();
-
-
-    String poly = iterator.printSelf().trim();
-
-
-    if (poly.equals("")) {
-      return "0";
-    }
-
-    if (poly.charAt(0) == '+') {
-      return poly.substring(1);
-    }
-
-    return poly;
-
+    TermLayout terms = layout();
+    return PolynomialFormat.toString(terms.terms(), terms.size());
   }
 
 
   /**
    * This method take in as argument a polynomial and evaluates if both the polynomials are same.
+   * Two polynomials are the same when they have the same terms, whatever their implementation.
    *
    * @param p2 this method takes in a polynomial as an argument.
    * @return true if the polynomials are same else return false.
    */
   @Override
   public boolean equals(Object p2) {
-
-
-    Polynomial p1sorted = this.sortByPower();
-
-
-    if (p2 instanceof Polynomial) {
-
-      PolynomialImpl p21 = (PolynomialImpl) p2;
-      Polynomial p2sorted = p21.sortByPower();
-
-      if (p1sorted.toString().equals(p2sorted.toString())) {
-        return true;
-      }
-    }
-
-    return false;
-
+    return Polynomials.equals(this, p2);
   }
 
   /**
    * Any two polynomial that compare equal using the equals() method must produce the same
-   * hashCode.
+   * hashCode. The hash is computed from the terms and kept until the polynomial is changed.
    *
    * @return the hashcode of the polynomial.
    */
   @Override
   public int hashCode() {
-    return this.toString().hashCode();
-  }
-
-
-  /**
-   * A map is a higher-order function that converts a list that contains data of one type, into a
-   * list of identical structure that contains data of another type. Each element in the resulting
-   * list can be thought of as a conversion of the corresponding element in the original list.
-   *
-   * @param converter the function that is to be applied to all the terms.
-   * @return the polynomial after the conversion.
-   */
-  private PolynomialImpl map(Function converter) {
-    return new PolynomialImpl(head.map(converter));
-  }
-
-
-  /**
-   * A filter is a higher-order function that filters a list according to some predicate and returns
-   * a smaller list according to the predicate test.
-   *
-   * @param testfunc the predicate that will be tested on each term of the polynomial.
-   * @return filtered polynomial.
-   */
-  private PolynomialImpl filter(Predicate testfunc) {
-    return new PolynomialImpl(head.filter(testfunc));
-  }
-
-  /**
-   * This method sorts the polynomial according to the power of each term.
-   *
-   * @return polynomial.
-   */
-  private PolynomialImpl sortByPower() {
-    return new PolynomialImpl(head);
+    if (hash == 0) {
+      hash = Polynomials.hashCode(terms());
+    }
+    return hash;
   }
 
   /**
-   * This method is used to remove  terms from a polynomial.
+   * This method returns the terms of this polynomial sorted by power in primitive arrays. The
+   * layout is built on first use and kept until the polynomial is changed.
    *
-   * @param coefficient this method takes as one of the arguments a coefficient.
-   * @param power       this method takes as one of the arguments a power.
+   * @return the sorted layout of the terms.
    */
-  private void removeTerm(int coefficient, int power) {
-
-    Term term = new Term(coefficient, power);
-    head = head.remove(term);
-  }
+  @Override
+  public TermLayout layout() {
 
-  /**
-   * This method is used to preprocess the  terms into a uniform string.
-   *
-   * @param term     this method takes in a term as one of its arguments.
-   * @param variable this method takes in a variable as one of its arguments.
-   * @return the processed uniform term.
-   */
-  private String preprocessTerms(String term, String variable) {
-    term = term.trim();
+    if (layout != null) {
+      return layout;
+    }
 
+    int size = 0;
+    for (PolynomialNode node = head; node instanceof TermNode; node = node.getRest()) {
+      size++;
+    }
 
-    if (term.contains(variable) && !term.contains("^")) {
-      term = term + "^1";
+    Term[] data = new Term[size];
+    long[] keys = new long[size];
+    int index = 0;
+    for (PolynomialNode node = head; node instanceof TermNode; node = node.getRest()) {
+      data[index] = node.getData();
+      keys[index] = ((long) data[index].getPower() << 32) | index;
+      index++;
     }
-    if (!term.contains(variable)) {
-      term = term + variable + "^0";
+
+    Arrays.sort(keys);
+
+    int[] powers = new int[size];
+    long[] coefficients = new long[size];
+    int count = 0;
+    for (long key : keys) {
+      Term term = data[(int) key];
+      if (term.getCoefficient() != 0) {
+        powers[count] = term.getPower();
+        coefficients[count] = term.getCoefficient();
+        count++;
+      }
     }
 
-    return term;
+    layout = new TermLayout(powers, coefficients, count);
+    return layout;
   }
 
   /**
-   * This method is used to preprocess polynomial before Addition.
+   * This method builds a polynomial out of a sequence of terms that has no repeated powers, such
+   * as the terms of another polynomial.
    *
-   * @param polynomial this method takes in a polynomial as a String.
-   * @return the processed polynomial as String.
+   * @param terms the terms of the new polynomial.
+   * @return the polynomial made of those terms.
    */
-  private String preprocessForAddition(String polynomial) {
+  private static PolynomialImpl fromTerms(TermIterator terms) {
 
-    if (polynomial.matches("^[0-9](.*)")) {
-      polynomial = "+" + polynomial;
+    PolynomialNode node = new EmptyNode();
+    while (terms.next()) {
+      node = node.addFront(new Term((int) terms.getCoefficient(), terms.getPower()));
     }
 
-    polynomial = polynomial.replace("+", " +");
-    polynomial = polynomial.replace("-", " -");
-
-    return polynomial;
+    return new PolynomialImpl(node);
   }
 
-
   /**
-   * This method checks if all the variables in the polynomial are uniform.
+   * This method is used to remove a term from a polynomial in constant time. The node is unlinked
+   * by moving the term of the node that follows it into it; the last node is filled with the term
+   * of the first node instead, and the first node is dropped. The order of the list does not
+   * matter as the terms are always sorted before they are read in order.
    *
-   * @param polynomial takes in as an argument a polynomial in String format.
-   * @return the variable in string format.
-   * @throws IllegalArgumentException the variables are not uniform.
+   * @param node the node holding the term to be removed.
    */
-  private String returnVariable(String polynomial) throws IllegalArgumentException {
-    String variable = "";
-    Pattern pattern = Pattern.compile("[+\\-]*[0-9]+([A-Za-z]*)[\\^]*[0-9]*[ ]{1}");
-    Matcher matcher = pattern.matcher(polynomial + " ");
-    while (matcher.find()) {
-
-      if (!matcher.group(1).equals("")) {
-
-        variable = variable + matcher.group(1);
-
-      }
-    }
+  private void removeNode(TermNode node) {
 
-    if (variable.equals("")) {
-      variable = "x";
-    }
-
-
-    String ph = variable.charAt(0) + "";
-
-    for (int i = 0; i < variable.length(); i++) {
+    index.remove(node.getData().getPower());
 
-      String place = variable.charAt(i) + "";
-      if (!place.equals(ph)) {
-        throw new IllegalArgumentException("the place holders are different");
-      }
+    if (node.getRest() instanceof TermNode) {
+      TermNode next = (TermNode) node.getRest();
+      node.setData(next.getData());
+      node.setRest(next.getRest());
+      index.put(node.getData().getPower(), node);
+    } else if (node == head) {
+      head = node.getRest();
+    } else {
+      TermNode first = (TermNode) head;
+      node.setData(first.getData());
+      index.put(node.getData().getPower(), node);
+      head = first.getRest();
     }
-
-    return ph;
-
   }
 
 
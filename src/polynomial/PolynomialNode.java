@@ -97,5 +97,12 @@ public interface PolynomialNode {
    */
   public int getDegree();
 
+  /**
+   * This is a getter method that is used to get the rest of the list after this node.
+   *
+   * @return the rest of the polynomial list.
+   */
+  public PolynomialNode getRest();
+
 
 }
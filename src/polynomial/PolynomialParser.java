@@ -0,0 +1,127 @@
+package polynomial;
+
+/**
+ * This class parses polynomials and remembers the result for each text, so that the same text
+ * is only parsed once. The texts follow the same format as the one accepted by PolynomialImpl.
+ * The results are immutable PersistentPolynomial objects that are shared by every caller, or can
+ * be copied into a new mutable polynomial when one is needed.
+ *
+ * <p>The cache is bounded both by its number of entries and by the total length of the texts it
+ * holds, and drops the least recently used entries first. A text longer than the total length
+ * allowed is parsed every time. Texts that are incorrect are not remembered. The parser is safe
+ * to use from several threads; texts are parsed outside the lock, so the same text may
+ * occasionally be parsed twice.
+ */
+public class PolynomialParser {
+
+  private final LruCache<String, PersistentPolynomial> results;
+  private long hitCount;
+  private long missCount;
+
+  /**
+   * This constructor creates a parser with an empty cache.
+   *
+   * @param maxEntries the largest number of texts remembered.
+   * @param maxLength  the largest total length of the texts remembered.
+   * @throws IllegalArgumentException if either bound is not positive.
+   */
+  public PolynomialParser(int maxEntries, long maxLength) throws IllegalArgumentException {
+    if (maxEntries < 1 || maxLength < 1) {
+      throw new IllegalArgumentException("capacity must be positive!!");
+    }
+    this.results = new LruCache<>(maxEntries, maxLength, (text, p) -> text.length());
+  }
+
+  /**
+   * This method returns the polynomial of a text, parsing it only if the same text has not been
+   * parsed before. The polynomial returned may be shared with other callers.
+   *
+   * @param text the text of the polynomial.
+   * @return the immutable polynomial.
+   * @throws PolynomialFormatException if the polynomial is incorrect.
+   */
+  public PersistentPolynomial parse(String text) throws PolynomialFormatException {
+
+    PersistentPolynomial result = lookup(text);
+
+    if (result == null) {
+      result = PersistentPolynomial.parse(text);
+      store(text, result);
+    }
+    return result;
+  }
+
+  /**
+   * This method returns a new mutable polynomial holding the terms of a text, which the caller is
+   * free to change. Only the terms are copied, the text is parsed at most once.
+   *
+   * @param text the text of the polynomial.
+   * @return a new polynomial with the terms of the text.
+   * @throws PolynomialFormatException if the polynomial is incorrect.
+   */
+  public Polynomial parseCopy(String text) throws PolynomialFormatException {
+    return new SparsePolynomial(parse(text));
+  }
+
+  /**
+   * This method returns the counters of the cache as they are now.
+   *
+   * @return the hits, misses and evictions counted so far.
+   */
+  public synchronized CacheStats stats() {
+    return new CacheStats(hitCount, missCount, results.evictionCount());
+  }
+
+  /**
+   * This method is used to get the number of texts in the cache.
+   *
+   * @return the number of texts.
+   */
+  public synchronized int size() {
+    return results.size();
+  }
+
+  /**
+   * This method is used to get the total length of the texts in the cache.
+   *
+   * @return the total length of the texts.
+   */
+  public synchronized long weight() {
+    return results.weight();
+  }
+
+  /**
+   * This method drops every text from the cache. The counters are kept.
+   */
+  public synchronized void clear() {
+    results.clear();
+  }
+
+  /**
+   * This method looks up the polynomial of a text and counts the lookup as a hit or a miss.
+   *
+   * @param text the text.
+   * @return the polynomial, or null if it is not in the cache.
+   */
+  private synchronized PersistentPolynomial lookup(String text) {
+    PersistentPolynomial result = results.get(text);
+    if (result == null) {
+      missCount++;
+    } else {
+      hitCount++;
+    }
+    return result;
+  }
+
+  /**
+   * This method stores the polynomial of a text in the cache, dropping the least recently used
+   * texts if needed.
+   *
+   * @param text   the text.
+   * @param result the polynomial of the text.
+   */
+  private synchronized void store(String text, PersistentPolynomial result) {
+    results.put(text, result);
+  }
+
+}
@@ -0,0 +1,429 @@
+package polynomial;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+
+/**
+ * This class parses the text form of a polynomial in a single pass, one character at a time. It
+ * accepts the same format as the PolynomialImpl constructor: terms separated by spaces, each made
+ * of a sign, a coefficient, and optionally the variable with a power, such as "+3x^2 -5x^1 +4".
+ * The sign may only be left out of the first term when it is at the very start of the text. Every
+ * term must use the same single letter as its variable. Like the constructor, which trims every
+ * term, the scanner ignores other whitespace, such as tabs and line breaks, before or after a term,
+ * so a text read from a file may end with a line break. Whitespace inside a term is an error, and
+ * so is whitespace that stands between two spaces, or after the last space, without a term.
+ *
+ * <p>The terms are handed to a TermSink as they are read. When the text turns out to be
+ * incorrect a PolynomialFormatException is thrown once the whole text has been read, so the sink
+ * may already have received the terms that came before the error. A variable that is not the same
+ * everywhere is reported ahead of any other error.
+ */
+public class PolynomialScanner {
+
+  static final String INCORRECT = "The polynomial is incorrect!";
+  static final String DIFFERENT_VARIABLES = "the place holders are different";
+
+  private static final int START = 0;
+  private static final int SIGN = 1;
+  private static final int COEFFICIENT = 2;
+  private static final int VARIABLE = 3;
+  private static final int CARET = 4;
+  private static final int POWER = 5;
+  private static final int SKIP = 6;
+
+  private static final int OUTSIDE = 0;
+  private static final int LETTERS = 1;
+  private static final int CARETS = 2;
+  private static final int DIGITS = 3;
+
+  private static final long MAX_MAGNITUDE = 1L << 31;
+  private static final int BUFFER_SIZE = 8192;
+
+  private final TermSink sink;
+  private final boolean atStart;
+  private long position;
+  private long termStart;
+  private int state;
+  private boolean negative;
+  private long coefficient;
+  private long power;
+  private char variable;
+  private boolean afterDigit;
+  private boolean trimmed;
+  private long blankStart;
+  private int run;
+  private char runLetter;
+  private long runOffset;
+  private long runMismatchOffset;
+  private long errorOffset;
+  private long variableStart;
+  private long variableOffset;
+
+  /**
+   * This constructor creates a scanner for a piece of text.
+   *
+   * @param sink    the sink the terms are handed to.
+   * @param offset  the offset of the first character of the piece within the whole text.
+   * @param atStart true if the piece starts at the very start of the text.
+   */
+  PolynomialScanner(TermSink sink, long offset, boolean atStart) {
+    this.sink = sink;
+    this.atStart = atStart;
+    this.position = offset;
+    this.state = START;
+    this.run = OUTSIDE;
+    this.errorOffset = -1;
+    this.variableOffset = -1;
+    this.blankStart = -1;
+  }
+
+  /**
+   * This method parses a polynomial held in a character sequence.
+   *
+   * @param text the text of the polynomial.
+   * @param sink the sink the terms are handed to.
+   * @throws PolynomialFormatException if the polynomial is incorrect.
+   */
+  public static void parse(CharSequence text, TermSink sink) throws PolynomialFormatException {
+    PolynomialScanner scanner = new PolynomialScanner(sink, 0, true);
+    for (int i = 0, length = text.length(); i < length; i++) {
+      scanner.accept(text.charAt(i));
+    }
+    scanner.finish();
+    scanner.check();
+  }
+
+  /**
+   * This method parses a polynomial read from a reader, until the end of the reader.
+   *
+   * @param reader the reader the text of the polynomial is read from.
+   * @param sink   the sink the terms are handed to.
+   * @throws IOException               if the reader fails.
+   * @throws PolynomialFormatException if the polynomial is incorrect.
+   */
+  public static void parse(Reader reader, TermSink sink)
+          throws IOException, PolynomialFormatException {
+    PolynomialScanner scanner = new PolynomialScanner(sink, 0, true);
+    char[] buffer = new char[BUFFER_SIZE];
+    for (int read = reader.read(buffer); read >= 0; read = reader.read(buffer)) {
+      for (int i = 0; i < read; i++) {
+        scanner.accept(buffer[i]);
+      }
+    }
+    scanner.finish();
+    scanner.check();
+  }
+
+  /**
+   * This method parses a polynomial held as ASCII text in the remaining bytes of a buffer. The
+   * position of the buffer is moved to its limit.
+   *
+   * @param bytes the text of the polynomial.
+   * @param sink  the sink the terms are handed to.
+   * @throws PolynomialFormatException if the polynomial is incorrect.
+   */
+  public static void parse(ByteBuffer bytes, TermSink sink) throws PolynomialFormatException {
+    PolynomialScanner scanner = new PolynomialScanner(sink, 0, true);
+    for (int i = bytes.position(), limit = bytes.limit(); i < limit; i++) {
+      scanner.accept((char) (bytes.get(i) & 0xff));
+    }
+    bytes.position(bytes.limit());
+    scanner.finish();
+    scanner.check();
+  }
+
+  /**
+   * This method reads the next character of the text.
+   *
+   * @param c the character.
+   */
+  void accept(char c) {
+
+    trackVariable(c);
+
+    if (c == ' ') {
+      endToken();
+      position++;
+      return;
+    }
+
+    if (c < ' ') {
+      trimmed = state != START;
+      if (state == START && blankStart < 0) {
+        blankStart = position;
+      }
+      position++;
+      return;
+    }
+
+    if (trimmed) {
+      fail(position);
+      position++;
+      return;
+    }
+
+    switch (state) {
+      case START:
+        termStart = position;
+        blankStart = -1;
+        if (c == '+' || c == '-') {
+          negative = c == '-';
+          state = SIGN;
+        } else if (atStart && position == 0 && isDigit(c)) {
+          negative = false;
+          coefficient = c - '0';
+          state = COEFFICIENT;
+        } else {
+          fail(position);
+        }
+        break;
+      case SIGN:
+        if (isDigit(c)) {
+          coefficient = c - '0';
+          state = COEFFICIENT;
+        } else {
+          fail(position);
+        }
+        break;
+      case COEFFICIENT:
+        if (isDigit(c)) {
+          coefficient = accumulate(coefficient, c);
+        } else if (isLetter(c)) {
+          state = VARIABLE;
+        } else {
+          fail(position);
+        }
+        break;
+      case VARIABLE:
+        if (c == '^') {
+          state = CARET;
+        } else {
+          fail(position);
+        }
+        break;
+      case CARET:
+        if (isDigit(c)) {
+          power = c - '0';
+          state = POWER;
+        } else {
+          fail(position);
+        }
+        break;
+      case POWER:
+        if (isDigit(c)) {
+          power = accumulate(power, c);
+        } else {
+          fail(position);
+        }
+        break;
+      default:
+        break;
+    }
+
+    position++;
+  }
+
+  /**
+   * This method ends the last term once all the text has been read.
+   */
+  void finish() {
+    endRun();
+    endToken();
+  }
+
+  /**
+   * This method throws the error found in the text, if any.
+   *
+   * @throws PolynomialFormatException if the polynomial is incorrect.
+   */
+  void check() throws PolynomialFormatException {
+    if (variableOffset >= 0) {
+      throw new PolynomialFormatException(DIFFERENT_VARIABLES, variableOffset);
+    }
+    if (errorOffset >= 0) {
+      throw new PolynomialFormatException(INCORRECT, errorOffset);
+    }
+  }
+
+  /**
+   * This method takes in the errors and the variable found by the scanner of the piece of text
+   * that directly follows the piece read by this scanner, so that check reports the error the
+   * whole text would have been reported with. The following piece must start right after a space.
+   *
+   * @param following the scanner of the following piece, which has been finished.
+   */
+  void append(PolynomialScanner following) {
+
+    if (variableOffset < 0 && following.variable != 0) {
+      if (variable == 0) {
+        variable = following.variable;
+        variableStart = following.variableStart;
+      }
+      if (following.variable != variable) {
+        variableOffset = following.variableStart;
+      } else {
+        variableOffset = following.variableOffset;
+      }
+    }
+
+    if (errorOffset < 0) {
+      errorOffset = following.errorOffset;
+    }
+  }
+
+  /**
+   * This method ends the current token, handing over its term if it is complete. A token made of
+   * nothing but whitespace is an error.
+   */
+  private void endToken() {
+    switch (state) {
+      case START:
+        if (blankStart >= 0) {
+          fail(blankStart);
+        }
+        break;
+      case COEFFICIENT:
+        endTerm(0);
+        break;
+      case VARIABLE:
+        endTerm(1);
+        break;
+      case POWER:
+        endTerm(power);
+        break;
+      case SIGN:
+      case CARET:
+        fail(position);
+        break;
+      default:
+        break;
+    }
+    state = START;
+    trimmed = false;
+    blankStart = -1;
+  }
+
+  /**
+   * This method hands over a complete term, unless it does not fit in an int or the text is
+   * already known to be incorrect.
+   *
+   * @param power the power of the term.
+   */
+  private void endTerm(long power) {
+
+    long limit = negative ? MAX_MAGNITUDE : MAX_MAGNITUDE - 1;
+    if (coefficient > limit || power > Integer.MAX_VALUE) {
+      fail(termStart);
+      return;
+    }
+
+    if (errorOffset < 0 && variableOffset < 0) {
+      sink.accept((int) (negative ? -coefficient : coefficient), (int) power);
+    }
+  }
+
+  /**
+   * This method records an error and skips the rest of the token.
+   *
+   * @param offset the offset of the error.
+   */
+  private void fail(long offset) {
+    if (errorOffset < 0) {
+      errorOffset = offset;
+    }
+    state = SKIP;
+  }
+
+  /**
+   * This method keeps track of the variables used in the text, which have to be the same
+   * everywhere, including in terms that are otherwise incorrect. A run of letters counts as a
+   * variable when it directly follows a digit and is followed by nothing but carets and then
+   * digits up to the end of the token.
+   *
+   * @param c the character being read.
+   */
+  private void trackVariable(char c) {
+
+    if (c <= ' ') {
+      endRun();
+    } else if (isLetter(c)) {
+      if (run == LETTERS) {
+        if (c != runLetter && runMismatchOffset < 0) {
+          runMismatchOffset = position;
+        }
+      } else if (afterDigit) {
+        run = LETTERS;
+        runLetter = c;
+        runOffset = position;
+        runMismatchOffset = -1;
+      } else {
+        run = OUTSIDE;
+      }
+    } else if (c == '^') {
+      run = (run == LETTERS || run == CARETS) ? CARETS : OUTSIDE;
+    } else if (isDigit(c)) {
+      run = run == OUTSIDE ? OUTSIDE : DIGITS;
+    } else {
+      run = OUTSIDE;
+    }
+
+    afterDigit = isDigit(c);
+  }
+
+  /**
+   * This method checks the run of letters that ends with the current token, if there is one,
+   * against the variable used before it.
+   */
+  private void endRun() {
+
+    if (run != OUTSIDE && variableOffset < 0) {
+      if (variable == 0) {
+        variable = runLetter;
+        variableStart = runOffset;
+      }
+      if (runLetter != variable) {
+        variableOffset = runOffset;
+      } else if (runMismatchOffset >= 0) {
+        variableOffset = runMismatchOffset;
+      }
+    }
+
+    run = OUTSIDE;
+  }
+
+  /**
+   * This method appends a digit to a number, stopping once the number is too large for an int.
+   *
+   * @param number the number read so far.
+   * @param digit  the next digit.
+   * @return the number including the digit.
+   */
+  private static long accumulate(long number, char digit) {
+    if (number > MAX_MAGNITUDE) {
+      return number;
+    }
+    return number * 10 + (digit - '0');
+  }
+
+  /**
+   * This method checks if a character is a decimal digit.
+   *
+   * @param c the character.
+   * @return true if the character is a digit.
+   */
+  private static boolean isDigit(char c) {
+    return c >= '0' && c <= '9';
+  }
+
+  /**
+   * This method checks if a character is an ASCII letter.
+   *
+   * @param c the character.
+   * @return true if the character is a letter.
+   */
+  private static boolean isLetter(char c) {
+    return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+  }
+
+}
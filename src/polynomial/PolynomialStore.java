@@ -0,0 +1,356 @@
+package polynomial;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * This class keeps many polynomials in a binary file that is mapped into memory, so that a
+ * polynomial can be read back without parsing or copying it. Each polynomial is identified by its
+ * position in the order it was written, and an index at the end of the file gives the offset of
+ * every polynomial. Opening a store only reads the header; getting a polynomial returns a
+ * MappedPolynomial that reads its terms from the mapped file.
+ *
+ * <p>The file starts with a header of 24 bytes: a magic number, the version of the format, the
+ * size of the regions the file is mapped in, the number of polynomials and the offset of the
+ * index. Every polynomial is stored on an 8 byte boundary as its number of terms, 4 bytes of
+ * padding, the coefficients as longs and the powers as ints, both in decreasing order of power.
+ * A polynomial never crosses the boundary of a region, so it can always be read from a single
+ * mapped buffer. The index is an array of longs.
+ *
+ * <p>A store can be read from several threads at the same time. The polynomials already returned
+ * can still be used after the store has been closed.
+ */
+public final class PolynomialStore implements Closeable {
+
+  private static final int MAGIC = 0x504F4C59;
+  private static final int VERSION = 1;
+  private static final int HEADER_SIZE = 24;
+  private static final int DEFAULT_REGION_SHIFT = 30;
+  private static final int STAGING_SIZE = 1 << 16;
+  private static final String CORRUPTED = "the polynomial store is corrupted";
+
+  private final FileChannel channel;
+  private final MappedByteBuffer[] regions;
+  private final int regionShift;
+  private final int count;
+  private final long indexOffset;
+  private volatile boolean closed;
+
+  /**
+   * This is a private constructor that is used to create a store over a file already mapped.
+   *
+   * @param channel     the channel of the file.
+   * @param regions     the mapped regions of the file.
+   * @param regionShift the logarithm of the size of a region.
+   * @param count       the number of polynomials.
+   * @param indexOffset the offset of the index in the file.
+   */
+  private PolynomialStore(FileChannel channel, MappedByteBuffer[] regions, int regionShift,
+                          int count, long indexOffset) {
+    this.channel = channel;
+    this.regions = regions;
+    this.regionShift = regionShift;
+    this.count = count;
+    this.indexOffset = indexOffset;
+  }
+
+  /**
+   * This method writes polynomials to a file, replacing its content. The id of each polynomial is
+   * its position in the order they are given.
+   *
+   * @param file        the file to be written.
+   * @param polynomials the polynomials to be stored.
+   * @throws IOException              if the file cannot be written.
+   * @throws IllegalArgumentException if a polynomial has too many terms to be stored.
+   */
+  public static void write(Path file, Iterable<? extends Polynomial> polynomials)
+          throws IOException, IllegalArgumentException {
+    write(file, polynomials, DEFAULT_REGION_SHIFT);
+  }
+
+  /**
+   * This method writes polynomials to a file whose regions have the given size.
+   *
+   * @param file        the file to be written.
+   * @param polynomials the polynomials to be stored.
+   * @param regionShift the logarithm of the size of a region.
+   * @throws IOException              if the file cannot be written.
+   * @throws IllegalArgumentException if a polynomial has too many terms to be stored.
+   */
+  static void write(Path file, Iterable<? extends Polynomial> polynomials, int regionShift)
+          throws IOException, IllegalArgumentException {
+
+    long regionSize = 1L << regionShift;
+
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE,
+            StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+
+      Output output = new Output(channel, HEADER_SIZE);
+      long[] offsets = new long[16];
+      int count = 0;
+
+      for (Polynomial p : polynomials) {
+
+        TermLayout layout = TermLayout.of(p);
+        long recordSize = 8 + 12L * layout.size();
+        recordSize += recordSize & 4;
+        if (recordSize > regionSize) {
+          throw new IllegalArgumentException("the polynomial has too many terms to be stored!!");
+        }
+
+        long inRegion = output.position & (regionSize - 1);
+        if (inRegion + recordSize > regionSize) {
+          output.skip(regionSize - inRegion);
+        }
+
+        if (count == offsets.length) {
+          offsets = Arrays.copyOf(offsets, count * 2);
+        }
+        offsets[count++] = output.position;
+
+        output.putInt(layout.size());
+        output.putInt(0);
+        TermIterator terms = layout.terms();
+        while (terms.next()) {
+          output.putLong(terms.getCoefficient());
+        }
+        terms = layout.terms();
+        while (terms.next()) {
+          output.putInt(terms.getPower());
+        }
+        if ((output.position & 4) != 0) {
+          output.putInt(0);
+        }
+      }
+
+      long indexOffset = output.position;
+      for (int i = 0; i < count; i++) {
+        output.putLong(offsets[i]);
+      }
+      output.flush();
+
+      ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+      header.putInt(MAGIC).putInt(VERSION).putInt(regionShift).putInt(count).putLong(indexOffset);
+      header.flip();
+      while (header.hasRemaining()) {
+        channel.write(header, header.position());
+      }
+    }
+  }
+
+  /**
+   * This method opens a file written by write and maps it into memory.
+   *
+   * @param file the file to be opened.
+   * @return the store of the polynomials in the file.
+   * @throws IOException if the file cannot be read or is not a store of polynomials.
+   */
+  public static PolynomialStore open(Path file) throws IOException {
+
+    FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+    try {
+      long fileSize = channel.size();
+      ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+      while (header.hasRemaining()) {
+        if (channel.read(header, header.position()) < 0) {
+          break;
+        }
+      }
+      header.flip();
+      if (header.remaining() < HEADER_SIZE || header.getInt() != MAGIC) {
+        throw new IOException("the file is not a polynomial store");
+      }
+      if (header.getInt() != VERSION) {
+        throw new IOException("the version of the polynomial store is not supported");
+      }
+
+      int regionShift = header.getInt();
+      int count = header.getInt();
+      long indexOffset = header.getLong();
+      if (regionShift < 4 || regionShift > 30 || count < 0 || indexOffset < HEADER_SIZE
+              || (indexOffset & 7) != 0 || indexOffset + 8L * count > fileSize) {
+        throw new IOException(CORRUPTED);
+      }
+
+      long regionSize = 1L << regionShift;
+      MappedByteBuffer[] regions = new MappedByteBuffer[(int) ((fileSize + regionSize - 1)
+              >>> regionShift)];
+      for (int i = 0; i < regions.length; i++) {
+        long start = (long) i << regionShift;
+        regions[i] = channel.map(FileChannel.MapMode.READ_ONLY, start,
+                Math.min(regionSize, fileSize - start));
+      }
+
+      return new PolynomialStore(channel, regions, regionShift, count, indexOffset);
+    } catch (IOException | RuntimeException e) {
+      channel.close();
+      throw e;
+    }
+  }
+
+  /**
+   * This method is used to get the number of polynomials in the store.
+   *
+   * @return the number of polynomials.
+   */
+  public int size() {
+    return count;
+  }
+
+  /**
+   * This method returns a view of a stored polynomial. Only the offset and the number of terms of
+   * the polynomial are read from the file, and they are checked to lie within a single region
+   * before the index; the terms are not read until the polynomial is used.
+   *
+   * @param id the position of the polynomial in the order it was written.
+   * @return the polynomial.
+   * @throws IndexOutOfBoundsException if there is no polynomial with this id.
+   * @throws IllegalStateException     if the store has been closed.
+   * @throws PolynomialFormatException if the offset or the size of the polynomial is corrupted,
+   *                                   with the offset in the file of the value found incorrect.
+   */
+  public MappedPolynomial get(int id)
+          throws IndexOutOfBoundsException, IllegalStateException, PolynomialFormatException {
+
+    if (closed) {
+      throw new IllegalStateException("the store has been closed");
+    }
+    if (id < 0 || id >= count) {
+      throw new IndexOutOfBoundsException("there is no polynomial with this id");
+    }
+
+    long entry = indexOffset + 8L * id;
+    long offset = readLong(entry);
+    if (offset < HEADER_SIZE || (offset & 7) != 0 || offset + 8 > indexOffset) {
+      throw new PolynomialFormatException(CORRUPTED, entry);
+    }
+
+    MappedByteBuffer region = regions[(int) (offset >>> regionShift)];
+    int start = (int) (offset & ((1L << regionShift) - 1));
+    int size = region.getInt(start);
+    long end = start + 8 + 12L * size;
+    if (size < 0 || end > region.limit() || offset - start + end > indexOffset) {
+      throw new PolynomialFormatException(CORRUPTED, offset);
+    }
+
+    ByteBuffer view = region.duplicate();
+    view.limit((int) end);
+    view.position(start + 8);
+    LongBuffer coefficients = view.slice().asLongBuffer();
+    view.position(start + 8 + 8 * size);
+    IntBuffer powers = view.slice().asIntBuffer();
+
+    return new MappedPolynomial(powers, coefficients, size);
+  }
+
+  /**
+   * This method closes the file. The polynomials already returned stay readable until they are no
+   * longer referenced.
+   *
+   * @throws IOException if the file cannot be closed.
+   */
+  @Override
+  public void close() throws IOException {
+    closed = true;
+    channel.close();
+  }
+
+  /**
+   * This method reads a long from the mapped file. Longs are stored on 8 byte boundaries, so they
+   * never cross the boundary of a region.
+   *
+   * @param offset the offset of the long in the file.
+   * @return the long.
+   */
+  private long readLong(long offset) {
+    return regions[(int) (offset >>> regionShift)].getLong(
+            (int) (offset & ((1L << regionShift) - 1)));
+  }
+
+  /**
+   * This class writes the content of the file through a buffer, keeping track of the position
+   * reached in the file.
+   */
+  private static final class Output {
+
+    private final FileChannel channel;
+    private final ByteBuffer staging;
+    private long position;
+
+    /**
+     * This a constructor that is used to create the output.
+     *
+     * @param channel  the channel of the file.
+     * @param position the position in the file the output starts at.
+     */
+    Output(FileChannel channel, long position) {
+      this.channel = channel;
+      this.staging = ByteBuffer.allocate(STAGING_SIZE);
+      this.position = position;
+    }
+
+    /**
+     * This method writes an int.
+     *
+     * @param value the int.
+     * @throws IOException if the file cannot be written.
+     */
+    void putInt(int value) throws IOException {
+      if (staging.remaining() < 4) {
+        flush();
+      }
+      staging.putInt(value);
+      position += 4;
+    }
+
+    /**
+     * This method writes a long.
+     *
+     * @param value the long.
+     * @throws IOException if the file cannot be written.
+     */
+    void putLong(long value) throws IOException {
+      if (staging.remaining() < 8) {
+        flush();
+      }
+      staging.putLong(value);
+      position += 8;
+    }
+
+    /**
+     * This method moves the position forward without writing anything, leaving a gap in the file
+     * that reads as zeros.
+     *
+     * @param length the number of bytes skipped.
+     * @throws IOException if the file cannot be written.
+     */
+    void skip(long length) throws IOException {
+      flush();
+      position += length;
+    }
+
+    /**
+     * This method writes everything buffered so far to the file.
+     *
+     * @throws IOException if the file cannot be written.
+     */
+    void flush() throws IOException {
+      staging.flip();
+      long at = position - staging.remaining();
+      while (staging.hasRemaining()) {
+        at += channel.write(staging, at);
+      }
+      staging.clear();
+    }
+
+  }
+
+}
@@ -0,0 +1,77 @@
+package polynomial;
+
+/**
+ * This class holds the equality and hashing rules shared by every implementation of the
+ * Polynomial interface. Two polynomials are equal when they have the same terms, that is the same
+ * non-zero coefficient for every power, whatever their representation. The hash is computed from
+ * the same terms, so equal polynomials have equal hashes across implementations. Both are computed
+ * by walking the terms directly, without building the text of either polynomial.
+ */
+final class Polynomials {
+
+  /**
+   * This is a private constructor as the class only has static methods.
+   */
+  private Polynomials() {
+  }
+
+  /**
+   * This method checks if a polynomial has the same terms as another object.
+   *
+   * @param p     the polynomial.
+   * @param other the object it is compared with.
+   * @return true if the object is a polynomial with the same terms, else false.
+   */
+  static boolean equals(Polynomial p, Object other) {
+
+    if (p == other) {
+      return true;
+    }
+
+    if (!(other instanceof Polynomial)) {
+      return false;
+    }
+
+    TermIterator terms = p.terms();
+    TermIterator otherTerms = ((Polynomial) other).terms();
+    while (terms.next()) {
+      if (!otherTerms.next() || terms.getPower() != otherTerms.getPower()
+              || terms.getCoefficient() != otherTerms.getCoefficient()) {
+        return false;
+      }
+    }
+
+    return !otherTerms.next();
+  }
+
+  /**
+   * This method brings a coefficient computed with long arithmetic back into the range of an int,
+   * wrapping around in the same way as int arithmetic does. Every coefficient kept by a polynomial
+   * goes through this method, so all the implementations agree on the result of an overflow.
+   *
+   * @param coefficient the coefficient computed with long arithmetic.
+   * @return the coefficient wrapped into the range of an int.
+   */
+  static long wrap(long coefficient) {
+    return (int) coefficient;
+  }
+
+  /**
+   * This method computes the hash of a sequence of terms from their powers and coefficients. The
+   * hash is never zero, which leaves zero free to mark a hash that has not been computed yet.
+   *
+   * @param terms the terms in decreasing order of power.
+   * @return the hash of the terms.
+   */
+  static int hashCode(TermIterator terms) {
+
+    int hash = 1;
+    while (terms.next()) {
+      hash = 31 * hash + terms.getPower();
+      hash = 31 * hash + Long.hashCode(terms.getCoefficient());
+    }
+
+    return hash == 0 ? 1 : hash;
+  }
+
+}
@@ -0,0 +1,150 @@
+package polynomial;
+
+import java.util.Arrays;
+
+/**
+ * This class maps the powers of a polynomial to values using open addressing over a primitive
+ * array of keys, so looking up a power neither boxes it nor walks the terms. Powers are never
+ * negative, which leaves -1 free to mark an empty slot. The probing is shared with
+ * CoefficientAccumulator, which keeps primitive sums instead of objects.
+ *
+ * @param <V> the type of the values stored for each power.
+ */
+final class PowerIndex<V> {
+
+  static final int EMPTY = -1;
+  private static final int INITIAL_CAPACITY = 8;
+
+  private int[] keys;
+  private Object[] values;
+  private int size;
+
+  /**
+   * This the default constructor that is used to create an empty index.
+   */
+  PowerIndex() {
+    keys = new int[INITIAL_CAPACITY];
+    values = new Object[INITIAL_CAPACITY];
+    Arrays.fill(keys, EMPTY);
+  }
+
+  /**
+   * This method returns the value stored for a power.
+   *
+   * @param power the power to look up.
+   * @return the value stored for the power, or null if there is none.
+   */
+  @SuppressWarnings("unchecked")
+  V get(int power) {
+    if (power < 0) {
+      return null;
+    }
+    int slot = slot(keys, power);
+    return keys[slot] == EMPTY ? null : (V) values[slot];
+  }
+
+  /**
+   * This method stores a value for a power, replacing the value stored before.
+   *
+   * @param power the power, which cannot be negative.
+   * @param value the value to be stored.
+   */
+  void put(int power, V value) {
+    if (2 * (size + 1) > keys.length) {
+      resize(keys.length * 2);
+    }
+    int slot = slot(keys, power);
+    if (keys[slot] == EMPTY) {
+      keys[slot] = power;
+      size++;
+    }
+    values[slot] = value;
+  }
+
+  /**
+   * This method removes the value stored for a power. The entries that follow it in the same run
+   * of slots are shifted back so that lookups never need to skip over removed entries.
+   *
+   * @param power the power to be removed.
+   */
+  void remove(int power) {
+    int slot = slot(keys, power);
+    if (keys[slot] == EMPTY) {
+      return;
+    }
+
+    int mask = keys.length - 1;
+    int hole = slot;
+    for (int next = (hole + 1) & mask; keys[next] != EMPTY; next = (next + 1) & mask) {
+      int home = hash(keys[next]) & mask;
+      //move the entry into the hole unless its home slot lies between the hole and its slot
+      if (((next - home) & mask) >= ((next - hole) & mask)) {
+        keys[hole] = keys[next];
+        values[hole] = values[next];
+        hole = next;
+      }
+    }
+    keys[hole] = EMPTY;
+    values[hole] = null;
+    size--;
+  }
+
+  /**
+   * This method is used to get the number of powers in the index.
+   *
+   * @return the number of powers.
+   */
+  int size() {
+    return size;
+  }
+
+  /**
+   * This method rehashes every entry into arrays of a new capacity.
+   *
+   * @param capacity the new capacity, a power of two.
+   */
+  @SuppressWarnings("unchecked")
+  private void resize(int capacity) {
+    int[] oldKeys = keys;
+    Object[] oldValues = values;
+    keys = new int[capacity];
+    values = new Object[capacity];
+    Arrays.fill(keys, EMPTY);
+    size = 0;
+    for (int i = 0; i < oldKeys.length; i++) {
+      if (oldKeys[i] != EMPTY) {
+        put(oldKeys[i], (V) oldValues[i]);
+      }
+    }
+  }
+
+  /**
+   * This method finds the slot of a power in an array of keys whose length is a power of two and
+   * which always has an empty slot left.
+   *
+   * @param keys  the keys, with EMPTY marking the empty slots.
+   * @param power the power to look up, which cannot be negative.
+   * @return the slot holding the power, or the empty slot where it belongs if it is not there.
+   */
+  static int slot(int[] keys, int power) {
+    int mask = keys.length - 1;
+    int slot = hash(power) & mask;
+    while (keys[slot] != EMPTY && keys[slot] != power) {
+      slot = (slot + 1) & mask;
+    }
+    return slot;
+  }
+
+  /**
+   * This method spreads the bits of a power so that consecutive powers do not fall into
+   * consecutive slots.
+   *
+   * @param power the power.
+   * @return the hash of the power.
+   */
+  private static int hash(int power) {
+    int h = power * 0x9E3779B9;
+    return h ^ (h >>> 16);
+  }
+
+}
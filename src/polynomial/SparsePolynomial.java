@@ -0,0 +1,348 @@
+package polynomial;
+
+import java.util.Arrays;
+
+/**
+ * This is a sparse implementation of the Polynomial interface. Only the terms with a non-zero
+ * coefficient are stored, in two parallel arrays sorted by increasing power. Looking up a
+ * coefficient is a binary search and adding two sparse polynomials is a linear merge of the
+ * arrays, which keeps both memory use and running time proportional to the number of terms rather
+ * than to the degree.
+ */
+public class SparsePolynomial implements Polynomial {
+
+  private static final int DEFAULT_CAPACITY = 4;
+
+  private int[] powers;
+  private long[] coefficients;
+  private int size;
+  private int hash;
+
+  /**
+   * This the default constructor that is used to initialize the polynomial.
+   */
+  public SparsePolynomial() {
+    this.powers = new int[DEFAULT_CAPACITY];
+    this.coefficients = new long[DEFAULT_CAPACITY];
+    this.size = 0;
+  }
+
+  /**
+   * This constructor takes a polynomial as a string, parses it and creates the polynomial
+   * accordingly. The string follows the same format as the one accepted by PolynomialImpl. The
+   * terms are read by PolynomialScanner into a PolynomialBuilder, which sorts them once instead of
+   * inserting each of them into the arrays.
+   *
+   * @param polynomial this method takes a polynomial in the form of string.
+   * @throws IllegalArgumentException if the polynomial is incorrect.
+   */
+  public SparsePolynomial(String polynomial) throws IllegalArgumentException {
+    PolynomialBuilder builder = new PolynomialBuilder();
+    PolynomialScanner.parse(polynomial, builder);
+    SparsePolynomial parsed = (SparsePolynomial) builder.build();
+    this.powers = parsed.powers;
+    this.coefficients = parsed.coefficients;
+    this.size = parsed.size;
+  }
+
+  /**
+   * This constructor creates a sparse copy of any other polynomial.
+   *
+   * @param other the polynomial to be copied.
+   */
+  public SparsePolynomial(Polynomial other) {
+    this();
+    copyTerms(other.terms());
+  }
+
+  /**
+   * This is a package private constructor that wraps arrays which are already sorted by increasing
+   * power and hold no zero coefficients. The arrays are owned by the new polynomial from then on.
+   * The coefficients that have overflowed are wrapped around in place, and the terms that wrap
+   * around to zero are dropped.
+   *
+   * @param powers       the powers sorted in increasing order.
+   * @param coefficients the coefficient of each power.
+   * @param size         the number of terms stored in the arrays.
+   */
+  SparsePolynomial(int[] powers, long[] coefficients, int size) {
+    int kept = 0;
+    for (int i = 0; i < size; i++) {
+      long coefficient = Polynomials.wrap(coefficients[i]);
+      if (coefficient != 0) {
+        powers[kept] = powers[i];
+        coefficients[kept] = coefficient;
+        kept++;
+      }
+    }
+    this.powers = powers;
+    this.coefficients = coefficients;
+    this.size = kept;
+  }
+
+  /**
+   * The addition is performed by combining all the terms and adding the coefficients of the terms
+   * with the same power. A term whose coefficient cancels out is removed.
+   *
+   * @param coefficient this is the coefficient of the term.
+   * @param power       this is the power of the term.
+   * @throws IllegalArgumentException is thrown when an Illegal argument is added.
+   */
+  @Override
+  public void addTerm(int coefficient, int power) throws IllegalArgumentException {
+
+    if (coefficient == 0) {
+      return;
+    }
+
+    if (power < 0) {
+      throw new IllegalArgumentException("power cannot be less than zero!!");
+    }
+
+    hash = 0;
+    int index = Arrays.binarySearch(powers, 0, size, power);
+
+    if (index >= 0) {
+      coefficients[index] = Polynomials.wrap(coefficients[index] + coefficient);
+      if (coefficients[index] == 0) {
+        removeAt(index);
+      }
+    } else {
+      insertAt(-index - 1, power, coefficient);
+    }
+  }
+
+  /**
+   * A method getCoefficient that takes a power and returns the coefficient for the term with that
+   * power.
+   *
+   * @param power this is the power of the term
+   * @return the coefficient of the term.
+   */
+  @Override
+  public int getCoefficient(int power) {
+    return (int) coefficientAt(power);
+  }
+
+  /**
+   * This method returns the coefficient of a power as it is stored, without narrowing it.
+   *
+   * @param power the power of the term.
+   * @return the coefficient of the term, or zero if there is no term with this power.
+   */
+  long coefficientAt(int power) {
+    int index = Arrays.binarySearch(powers, 0, size, power);
+    if (index < 0) {
+      return 0;
+    }
+    return coefficients[index];
+  }
+
+  /**
+   * A method getDegree that returns the degree of this polynomial.
+   *
+   * @return the degree of the polynomial.
+   */
+  @Override
+  public int getDegree() {
+    if (size == 0) {
+      return 0;
+    }
+    return powers[size - 1];
+  }
+
+  /**
+   * A method evaluate that takes a double-precision decimal number and returns a double-precision
+   * result which is the evaluation of this polynomial using this argument’s value. The terms are
+   * evaluated with Horner's scheme, bridging the gaps between powers by repeated squaring.
+   *
+   * @param x this method takes in a variable.
+   * @return it returns the evaluated result.
+   */
+  @Override
+  public double evaluate(double x) {
+    return HornerEvaluator.evaluateSparse(powers, coefficients, size, x);
+  }
+
+  /**
+   * A method evaluate that evaluates this polynomial at a range of values of an array and writes
+   * the results into a range of another array. The two ranges may be the same.
+   *
+   * @param xs        the values of the variable.
+   * @param xsOffset  the index of the first value in xs.
+   * @param out       the array the results are written to.
+   * @param outOffset the index in out of the first result.
+   * @param length    the number of values to be evaluated.
+   * @throws IndexOutOfBoundsException if the range does not fit in either array.
+   */
+  @Override
+  public void evaluate(double[] xs, int xsOffset, double[] out, int outOffset, int length)
+          throws IndexOutOfBoundsException {
+    HornerEvaluator.checkRange(xs, xsOffset, out, outOffset, length);
+    HornerEvaluator.evaluateSparse(powers, coefficients, size, xs, xsOffset, out, outOffset,
+            length);
+  }
+
+  /**
+   * A method add that takes another Polynomial object and returns the polynomial obtained by adding
+   * the two polynomials. Neither polynomial is mutated. The terms of both polynomials are merged
+   * in a single pass in order of power.
+   *
+   * @param p2 this method takes another Polynomial as an argument.
+   * @return the result of addition of two polynomial.
+   */
+  @Override
+  public Polynomial add(Polynomial p2) {
+    SparsePolynomial sum = new SparsePolynomial();
+    sum.copyTerms(new TermMerger(this.terms(), p2.terms()));
+    return sum;
+  }
+
+  /**
+   * A method derivative that takes no parameters and returns the polynomial obtained by
+   * differentiating this polynomial. The terms are copied once and then mapped in place, dropping
+   * the constant term which is always the first one when present.
+   *
+   * @return the polynomial after performing derivative.
+   */
+  @Override
+  public Polynomial derivative() {
+
+    int skip = (size > 0 && powers[0] == 0) ? 1 : 0;
+    int count = size - skip;
+
+    int[] derivedPowers = Arrays.copyOfRange(powers, skip, skip + Math.max(count, 1));
+    long[] derivedCoefficients = Arrays.copyOfRange(coefficients, skip,
+            skip + Math.max(count, 1));
+
+    for (int i = 0; i < count; i++) {
+      derivedCoefficients[i] *= derivedPowers[i];
+      derivedPowers[i]--;
+    }
+
+    return new SparsePolynomial(derivedPowers, derivedCoefficients, count);
+  }
+
+  /**
+   * A method multiply that takes another Polynomial object and returns the polynomial obtained by
+   * multiplying the two polynomials. Neither polynomial is mutated.
+   *
+   * @param p2 this method takes another Polynomial as an argument.
+   * @return the result of multiplication of two polynomial.
+   */
+  @Override
+  public Polynomial multiply(Polynomial p2) {
+    return new SparsePolynomial(MultiplicationEngine.SEQUENTIAL.multiply(this, p2));
+  }
+
+  /**
+   * A method terms that returns an iterator over the terms of this polynomial in decreasing order
+   * of power. The iterator reads the arrays of this polynomial directly, so it should not be used
+   * after the polynomial has been changed.
+   *
+   * @return an iterator over the terms of the polynomial.
+   */
+  @Override
+  public TermIterator terms() {
+    return new ArrayTermIterator(powers, coefficients, size);
+  }
+
+  /**
+   * The toString method is overridden to return the polynomial in sorted order in terms of power.
+   *
+   * @return the polynomial in the form of string.
+   */
+  @Override
+  public String toString() {
+    return PolynomialFormat.toString(terms(), size);
+  }
+
+  /**
+   * This method take in as argument a polynomial and evaluates if both the polynomials are same.
+   * Two polynomials are the same when they have the same terms, whatever their implementation.
+   *
+   * @param p2 this method takes in a polynomial as an argument.
+   * @return true if the polynomials are same else return false.
+   */
+  @Override
+  public boolean equals(Object p2) {
+    return Polynomials.equals(this, p2);
+  }
+
+  /**
+   * Any two polynomial that compare equal using the equals() method must produce the same
+   * hashCode. The hash is computed from the terms and kept until the polynomial is changed.
+   *
+   * @return the hashcode of the polynomial.
+   */
+  @Override
+  public int hashCode() {
+    if (hash == 0) {
+      hash = Polynomials.hashCode(terms());
+    }
+    return hash;
+  }
+
+  /**
+   * This method fills this empty polynomial with a sequence of terms visited in decreasing order
+   * of power. The terms are written from the back and then reversed into increasing order.
+   *
+   * @param terms the terms to be copied.
+   */
+  private void copyTerms(TermIterator terms) {
+
+    while (terms.next()) {
+      if (size == powers.length) {
+        int capacity = Math.max(DEFAULT_CAPACITY, size * 2);
+        powers = Arrays.copyOf(powers, capacity);
+        coefficients = Arrays.copyOf(coefficients, capacity);
+      }
+      powers[size] = terms.getPower();
+      coefficients[size] = terms.getCoefficient();
+      size++;
+    }
+
+    for (int i = 0, j = size - 1; i < j; i++, j--) {
+      int power = powers[i];
+      powers[i] = powers[j];
+      powers[j] = power;
+      long coefficient = coefficients[i];
+      coefficients[i] = coefficients[j];
+      coefficients[j] = coefficient;
+    }
+  }
+
+  /**
+   * This method inserts a term at the given position, shifting the following terms up by one.
+   *
+   * @param index       the position at which the term is inserted.
+   * @param power       the power of the term.
+   * @param coefficient the coefficient of the term.
+   */
+  private void insertAt(int index, int power, long coefficient) {
+
+    if (size == powers.length) {
+      int capacity = Math.max(DEFAULT_CAPACITY, size * 2);
+      powers = Arrays.copyOf(powers, capacity);
+      coefficients = Arrays.copyOf(coefficients, capacity);
+    }
+
+    System.arraycopy(powers, index, powers, index + 1, size - index);
+    System.arraycopy(coefficients, index, coefficients, index + 1, size - index);
+    powers[index] = power;
+    coefficients[index] = coefficient;
+    size++;
+  }
+
+  /**
+   * This method removes the term at the given position, shifting the following terms down by one.
+   *
+   * @param index the position of the term to be removed.
+   */
+  private void removeAt(int index) {
+    System.arraycopy(powers, index + 1, powers, index, size - index - 1);
+    System.arraycopy(coefficients, index + 1, coefficients, index, size - index - 1);
+    size--;
+  }
+
+}
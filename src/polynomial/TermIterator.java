@@ -0,0 +1,32 @@
+package polynomial;
+
+/**
+ * A TermIterator walks over the terms of a polynomial one at a time, in decreasing order of power.
+ * Only terms with a non-zero coefficient are visited, so two equal polynomials always produce the
+ * same sequence of terms regardless of how they are stored. The iterator starts before the first
+ * term and next() has to be called to move onto it.
+ */
+public interface TermIterator {
+
+  /**
+   * This method moves the iterator onto the next term.
+   *
+   * @return true if there is a term to be read, false if all the terms have been visited.
+   */
+  public boolean next();
+
+  /**
+   * This method is used to get the power of the current term.
+   *
+   * @return the power.
+   */
+  public int getPower();
+
+  /**
+   * This method is used to get the coefficient of the current term.
+   *
+   * @return the coefficient.
+   */
+  public long getCoefficient();
+
+}
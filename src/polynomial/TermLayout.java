@@ -0,0 +1,200 @@
+package polynomial;
+
+import java.util.Arrays;
+
+/**
+ * This class is an immutable snapshot of the terms of a polynomial laid out in two primitive
+ * arrays sorted by increasing power. It is built once from the terms of a polynomial and can then
+ * be evaluated or iterated any number of times without touching the original representation.
+ */
+final class TermLayout {
+
+  private final int[] powers;
+  private final long[] coefficients;
+  private final int size;
+  private int hash;
+
+  /**
+   * This a constructor that is used to create the layout from arrays it takes ownership of.
+   *
+   * @param powers       the powers sorted in increasing order.
+   * @param coefficients the coefficient of each power, none of them zero.
+   * @param size         the number of terms stored in the arrays.
+   */
+  TermLayout(int[] powers, long[] coefficients, int size) {
+    this.powers = powers;
+    this.coefficients = coefficients;
+    this.size = size;
+  }
+
+  /**
+   * This method lays out a sequence of terms visited in decreasing order of power.
+   *
+   * @param terms the terms to be laid out.
+   * @return the layout of the terms.
+   */
+  static TermLayout of(TermIterator terms) {
+
+    int[] powers = new int[8];
+    long[] coefficients = new long[8];
+    int size = 0;
+
+    while (terms.next()) {
+      if (size == powers.length) {
+        powers = Arrays.copyOf(powers, size * 2);
+        coefficients = Arrays.copyOf(coefficients, size * 2);
+      }
+      powers[size] = terms.getPower();
+      coefficients[size] = terms.getCoefficient();
+      size++;
+    }
+
+    for (int i = 0, j = size - 1; i < j; i++, j--) {
+      int power = powers[i];
+      powers[i] = powers[j];
+      powers[j] = power;
+      long coefficient = coefficients[i];
+      coefficients[i] = coefficients[j];
+      coefficients[j] = coefficient;
+    }
+
+    return new TermLayout(powers, coefficients, size);
+  }
+
+  /**
+   * This method returns the layout of the terms of a polynomial. The layout already kept by a
+   * LayoutPolynomial is shared, otherwise the terms are copied.
+   *
+   * @param p the polynomial.
+   * @return the layout of its terms.
+   */
+  static TermLayout of(Polynomial p) {
+    if (p instanceof LayoutPolynomial) {
+      return ((LayoutPolynomial) p).layout();
+    }
+    return of(p.terms());
+  }
+
+  /**
+   * This method is used to get the number of terms in the layout.
+   *
+   * @return the number of terms.
+   */
+  int size() {
+    return size;
+  }
+
+  /**
+   * This method is used to get the highest power in the layout.
+   *
+   * @return the highest power, or zero if there are no terms.
+   */
+  int degree() {
+    return size == 0 ? 0 : powers[size - 1];
+  }
+
+  /**
+   * This method evaluates the polynomial at the given value using Horner's scheme.
+   *
+   * @param x the value of the variable.
+   * @return the value of the polynomial at x.
+   */
+  double evaluate(double x) {
+    return HornerEvaluator.evaluateSparse(powers, coefficients, size, x);
+  }
+
+  /**
+   * This method evaluates the polynomial at many values using Horner's scheme.
+   *
+   * @param xs        the values of the variable.
+   * @param xsOffset  the index of the first value in xs.
+   * @param out       the array the results are written to.
+   * @param outOffset the index in out of the first result.
+   * @param length    the number of values to be evaluated.
+   */
+  void evaluate(double[] xs, int xsOffset, double[] out, int outOffset, int length) {
+    HornerEvaluator.evaluateSparse(powers, coefficients, size, xs, xsOffset, out, outOffset,
+            length);
+  }
+
+  /**
+   * This method returns an iterator over the terms in decreasing order of power.
+   *
+   * @return an iterator over the terms.
+   */
+  TermIterator terms() {
+    return new ArrayTermIterator(powers, coefficients, size);
+  }
+
+  /**
+   * This method returns the layout of the derivative of the terms. The constant term, which is
+   * always the first one when present, is dropped, and so is any term whose coefficient wraps
+   * around to zero.
+   *
+   * @return the layout of the derivative.
+   */
+  TermLayout derivative() {
+
+    int skip = (size > 0 && powers[0] == 0) ? 1 : 0;
+    int count = size - skip;
+    int[] derivedPowers = new int[Math.max(count, 1)];
+    long[] derivedCoefficients = new long[Math.max(count, 1)];
+
+    int size = 0;
+    for (int i = 0; i < count; i++) {
+      long coefficient = Polynomials.wrap(coefficients[i + skip] * powers[i + skip]);
+      if (coefficient != 0) {
+        derivedPowers[size] = powers[i + skip] - 1;
+        derivedCoefficients[size] = coefficient;
+        size++;
+      }
+    }
+
+    return new TermLayout(derivedPowers, derivedCoefficients, size);
+  }
+
+  /**
+   * This method checks if another object is a layout of the same terms.
+   *
+   * @param other the object to be compared with.
+   * @return true if the object is a layout with the same terms, else false.
+   */
+  @Override
+  public boolean equals(Object other) {
+
+    if (this == other) {
+      return true;
+    }
+
+    if (!(other instanceof TermLayout)) {
+      return false;
+    }
+
+    TermLayout layout = (TermLayout) other;
+    if (size != layout.size || hashCode() != layout.hashCode()) {
+      return false;
+    }
+
+    for (int i = 0; i < size; i++) {
+      if (powers[i] != layout.powers[i] || coefficients[i] != layout.coefficients[i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * This method returns the hash of the terms, which is the same as the hash of any polynomial
+   * with these terms. It is computed on first use.
+   *
+   * @return the hash of the terms.
+   */
+  @Override
+  public int hashCode() {
+    if (hash == 0) {
+      hash = Polynomials.hashCode(terms());
+    }
+    return hash;
+  }
+
+}
@@ -0,0 +1,84 @@
+package polynomial;
+
+/**
+ * This class merges the terms of two polynomials into the terms of their sum. Both inputs are
+ * visited in decreasing order of power, so the terms with the same power meet each other and are
+ * added together in a single pass; terms that cancel out are skipped. A sum that overflows wraps
+ * around as described by the Polynomial interface.
+ */
+class TermMerger implements TermIterator {
+
+  private final TermIterator first;
+  private final TermIterator second;
+  private boolean firstHasTerm;
+  private boolean secondHasTerm;
+  private int power;
+  private long coefficient;
+
+  /**
+   * This a constructor that is used to create the merger of two term sequences.
+   *
+   * @param first  the terms of the first polynomial.
+   * @param second the terms of the second polynomial.
+   */
+  TermMerger(TermIterator first, TermIterator second) {
+    this.first = first;
+    this.second = second;
+    this.firstHasTerm = first.next();
+    this.secondHasTerm = second.next();
+  }
+
+  /**
+   * This method moves the iterator onto the next term.
+   *
+   * @return true if there is a term to be read, false if all the terms have been visited.
+   */
+  @Override
+  public boolean next() {
+
+    while (firstHasTerm || secondHasTerm) {
+
+      if (!secondHasTerm || (firstHasTerm && first.getPower() > second.getPower())) {
+        power = first.getPower();
+        coefficient = first.getCoefficient();
+        firstHasTerm = first.next();
+      } else if (!firstHasTerm || second.getPower() > first.getPower()) {
+        power = second.getPower();
+        coefficient = second.getCoefficient();
+        secondHasTerm = second.next();
+      } else {
+        power = first.getPower();
+        coefficient = Polynomials.wrap(first.getCoefficient() + second.getCoefficient());
+        firstHasTerm = first.next();
+        secondHasTerm = second.next();
+      }
+
+      if (coefficient != 0) {
+        return true;
+      }
+    }
+
+    return false;
+  }
+
+  /**
+   * This method is used to get the power of the current term.
+   *
+   * @return the power.
+   */
+  @Override
+  public int getPower() {
+    return power;
+  }
+
+  /**
+   * This method is used to get the coefficient of the current term.
+   *
+   * @return the coefficient.
+   */
+  @Override
+  public long getCoefficient() {
+    return coefficient;
+  }
+
+}
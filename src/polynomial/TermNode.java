@@ -1,5 +1,6 @@
 package polynomial;
 
+import java.util.Arrays;
 import java.util.function.BinaryOperator;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -43,7 +44,11 @@ public class TermNode implements PolynomialNode {
    */
   @Override
   public PolynomialNode addToBack(Term term) {
-    this.restTerm = this.restTerm.addToBack(term);
+    TermNode last = this;
+    while (last.restTerm instanceof TermNode) {
+      last = (TermNode) last.restTerm;
+    }
+    last.restTerm = last.restTerm.addToBack(term);
     return this;
   }
 
@@ -54,13 +59,20 @@ public class TermNode implements PolynomialNode {
    * @return the polynomial node.
    */
   public PolynomialNode addSorted(Term term) {
-    if (this.data.getPower() > term.getPower()) {
-      //insert the book into the rest part of the list
-      return new TermNode(this.data, this.restTerm.addSorted(term));
-    } else {
-      //prepend this list with this book
-      return new TermNode(term, this);
+    TermNode first = new TermNode(null, this);
+    TermNode last = first;
+    PolynomialNode current = this;
+    while (current instanceof TermNode
+            && ((TermNode) current).data.getPower() > term.getPower()) {
+      //copy the nodes that come before the term
+      TermNode copy = new TermNode(((TermNode) current).data, null);
+      last.restTerm = copy;
+      last = copy;
+      current = ((TermNode) current).restTerm;
     }
+    //the rest of the list is shared after the inserted term
+    last.restTerm = new TermNode(term, current);
+    return first.restTerm;
   }
 
   /**
@@ -71,58 +83,44 @@ public class TermNode implements PolynomialNode {
    */
   @Override
   public PolynomialNode remove(Term term) {
-    if (this.data.getCoefficient() == term.getCoefficient()
-            && this.data.getPower() == term.getPower()) {
+    if (matches(this.data, term)) {
       return this.restTerm; //return the rest of the list as the result of deletion
-    } else {
-      this.restTerm = this.restTerm.remove(term); //the rest is whatever the
-      //result of removing it from the rest will be
-      return this; //this is now the list as a result of deletion, so return it
     }
+    TermNode previous = this;
+    while (previous.restTerm instanceof TermNode) {
+      TermNode current = (TermNode) previous.restTerm;
+      if (matches(current.data, term)) {
+        previous.restTerm = current.restTerm; //unlink the node from the list
+        break;
+      }
+      previous = current;
+    }
+    return this; //this is now the list as a result of deletion, so return it
   }
 
   /**
-   * This method recursively prints the term.
+   * This method prints the terms of the list, one after the other.
    *
    * @return the term in string format.
    */
   @Override
   public String printSelf() {
 
-    if (this.data.getCoefficient() > 0) {
+    StringBuilder poly = new StringBuilder();
 
-      if (this.data.getPower() == 0) {
-        return "+" + this.data.getCoefficient() + "" + this.restTerm.printSelf();
-      } else {
-        return "+" + this.data.getCoefficient() + "x^" + this.data.getPower() +
-                this.restTerm.printSelf();
-      }
-
-    } else {
+    for (PolynomialNode node = this; node instanceof TermNode; node = node.getRest()) {
+      Term term = node.getData();
 
-      if (this.data.getCoefficient() == 0) {
-        if (this.data.getPower() == 0) {
-          return this.data.getCoefficient() + "" + this.restTerm.printSelf();
-        } else {
-          return this.data.getCoefficient() + "x^" + this.data.getPower() +
-                  this.restTerm.printSelf();
-        }
+      if (term.getCoefficient() > 0) {
+        poly.append('+');
       }
-
-      if (this.data.getCoefficient() < 0) {
-
-        if (this.data.getPower() == 0) {
-          return this.data.getCoefficient() + "" + this.restTerm.printSelf();
-        } else {
-          return this.data.getCoefficient() + "x^" + this.data.getPower() +
-                  this.restTerm.printSelf();
-        }
+      poly.append(term.getCoefficient());
+      if (term.getPower() != 0) {
+        poly.append("x^").append(term.getPower());
       }
     }
 
-
-    return "";
-
+    return poly.toString();
   }
 
   /**
@@ -135,7 +133,16 @@ public class TermNode implements PolynomialNode {
    */
   @Override
   public PolynomialNode map(Function converter) {
-    return new TermNode((Term) converter.apply(this.data), this.restTerm.map(converter));
+    @SuppressWarnings("unchecked")
+    Function<Term, ?> typed = (Function<Term, ?>) converter;
+    TermNode first = new TermNode((Term) typed.apply(this.data), new EmptyNode());
+    TermNode last = first;
+    for (PolynomialNode node = this.restTerm; node instanceof TermNode; node = node.getRest()) {
+      TermNode copy = new TermNode((Term) typed.apply(node.getData()), last.restTerm);
+      last.restTerm = copy;
+      last = copy;
+    }
+    return first;
   }
 
   /**
@@ -147,9 +154,11 @@ public class TermNode implements PolynomialNode {
    */
   @Override
   public Double reduce(BinaryOperator test) {
-    return (Double) test.apply(this.data.getCoefficient(), this.data.getPower()) +
-            this.restTerm.reduce(test);
-
+    double result = 0.0;
+    for (PolynomialNode node = this; node instanceof TermNode; node = node.getRest()) {
+      result += (Double) test.apply(node.getData().getCoefficient(), node.getData().getPower());
+    }
+    return result;
   }
 
   /**
@@ -161,12 +170,16 @@ public class TermNode implements PolynomialNode {
    */
   @Override
   public PolynomialNode filter(Predicate testFunc) {
-    if (testFunc.test(this)) {
-      return new TermNode(this.data, this.restTerm.filter(testFunc));
-    } else {
-      return this.restTerm.filter(testFunc);
+    TermNode first = new TermNode(null, new EmptyNode());
+    TermNode last = first;
+    for (PolynomialNode node = this; node instanceof TermNode; node = node.getRest()) {
+      if (testFunc.test(node)) {
+        TermNode copy = new TermNode(node.getData(), last.restTerm);
+        last.restTerm = copy;
+        last = copy;
+      }
     }
-
+    return first.restTerm;
   }
 
   /**
@@ -176,7 +189,26 @@ public class TermNode implements PolynomialNode {
    */
   @Override
   public PolynomialNode sortByPower() {
-    return this.restTerm.sortByPower().addSorted(this.data);
+
+    int size = 0;
+    for (PolynomialNode node = this; node instanceof TermNode; node = node.getRest()) {
+      size++;
+    }
+
+    Term[] terms = new Term[size];
+    int index = 0;
+    for (PolynomialNode node = this; node instanceof TermNode; node = node.getRest()) {
+      terms[index++] = node.getData();
+    }
+
+    //a stable sort keeps terms of equal power in the order they had in the list
+    Arrays.sort(terms, (a, b) -> Integer.compare(b.getPower(), a.getPower()));
+
+    PolynomialNode sorted = new EmptyNode();
+    for (int i = terms.length - 1; i >= 0; i--) {
+      sorted = new TermNode(terms[i], sorted);
+    }
+    return sorted;
   }
 
   /**
@@ -196,8 +228,51 @@ public class TermNode implements PolynomialNode {
    */
   @Override
   public int getDegree() {
-    return Math.max(this.data.getPower(),this.restTerm.getDegree());
+    int degree = 0;
+    for (PolynomialNode node = this; node instanceof TermNode; node = node.getRest()) {
+      degree = Math.max(degree, node.getData().getPower());
+    }
+    return degree;
   }
 
+  /**
+   * This is a getter method that is used to get the rest of the list after this node.
+   *
+   * @return the rest of the polynomial list.
+   */
+  @Override
+  public PolynomialNode getRest() {
+    return restTerm;
+  }
+
+  /**
+   * This method checks if two terms have the same coefficient and the same power.
+   *
+   * @param data the term stored in a node.
+   * @param term the term that is looked for.
+   * @return true if the terms are the same.
+   */
+  private static boolean matches(Term data, Term term) {
+    return data.getCoefficient().equals(term.getCoefficient())
+            && data.getPower().equals(term.getPower());
+  }
+
+  /**
+   * This is a setter method that is used to replace the term stored in this node.
+   *
+   * @param data the new term.
+   */
+  void setData(Term data) {
+    this.data = data;
+  }
+
+  /**
+   * This is a setter method that is used to replace the rest of the list after this node.
+   *
+   * @param restTerm the new rest of the list.
+   */
+  void setRest(PolynomialNode restTerm) {
+    this.restTerm = restTerm;
+  }
 
 }
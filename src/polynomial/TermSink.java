@@ -0,0 +1,18 @@
+package polynomial;
+
+/**
+ * A TermSink receives the terms of a polynomial one at a time, for example as they are read by a
+ * parser. The same power may be received more than once, in which case the coefficients are meant
+ * to be added together.
+ */
+public interface TermSink {
+
+  /**
+   * This method receives one term.
+   *
+   * @param coefficient this is the coefficient of the term.
+   * @param power       this is the power of the term.
+   */
+  public void accept(int coefficient, int power);
+
+}
@@ -0,0 +1,177 @@
+import org.junit.Test;
+
+import java.util.Random;
+
+import polynomial.AdaptivePolynomial;
+import polynomial.Polynomial;
+import polynomial.PolynomialImpl;
+import polynomial.SparsePolynomial;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+/**
+ * This class tests the polynomial that switches between a sparse and a dense representation.
+ */
+public class AdaptivePolynomialTest {
+
+  /**
+   * This method tests that the representation follows the share of the powers present, with a
+   * gap between the two thresholds.
+   */
+  @Test
+  public void testSwitching() {
+
+    AdaptivePolynomial p = new AdaptivePolynomial();
+    assertEquals(false, p.isDense());
+
+    p.addTerm(1, 9);
+    p.addTerm(1, 0);
+    assertEquals(false, p.isDense());
+    for (int power = 1; power <= 4; power++) {
+      p.addTerm(2, power);
+    }
+    assertEquals(true, p.isDense());
+
+    p.addTerm(-2, 4);
+    p.addTerm(-2, 3);
+    assertEquals(true, p.isDense());
+    p.addTerm(-2, 2);
+    assertEquals(true, p.isDense());
+    p.addTerm(-2, 1);
+    assertEquals(false, p.isDense());
+    assertEquals("1x^9+1", p.toString());
+
+    p.addTerm(-1, 9);
+    assertEquals(true, p.isDense());
+    assertEquals(0, p.getDegree());
+
+    p.addTerm(7, 1000000);
+    assertEquals(false, p.isDense());
+    assertEquals(7, p.getCoefficient(1000000));
+    assertEquals(new PolynomialImpl("7x^1000000 +1"), p);
+    assertEquals(new PolynomialImpl("7x^1000000 +1").hashCode(), p.hashCode());
+
+    try {
+      p.addTerm(1, -1);
+      fail("a negative power should be rejected");
+    } catch (IllegalArgumentException e) {
+      assertEquals("power cannot be less than zero!!", e.getMessage());
+    }
+
+    try {
+      new AdaptivePolynomial(0.5, 0.5);
+      fail("thresholds without a gap should be rejected");
+    } catch (IllegalArgumentException e) {
+      assertEquals("the thresholds are incorrect!!", e.getMessage());
+    }
+
+    try {
+      new AdaptivePolynomial(0, 0.5);
+      fail("a polynomial that never becomes sparse should be rejected");
+    } catch (IllegalArgumentException e) {
+      assertEquals("the thresholds are incorrect!!", e.getMessage());
+    }
+  }
+
+  /**
+   * This method tests that the coefficients wrap like those of the other implementations and that
+   * a term cancelled by wrapping is no longer counted.
+   */
+  @Test
+  public void testOverflow() {
+
+    AdaptivePolynomial p = new AdaptivePolynomial();
+    Polynomial expected = new PolynomialImpl();
+    int[][] terms = {{Integer.MAX_VALUE, 3}, {Integer.MAX_VALUE, 3}, {Integer.MIN_VALUE, 1},
+        {Integer.MIN_VALUE, 1}, {5, 0}};
+    for (int[] term : terms) {
+      p.addTerm(term[0], term[1]);
+      expected.addTerm(term[0], term[1]);
+    }
+    assertEquals(expected, p);
+    assertEquals("-2x^3+5", p.toString());
+    assertEquals(0, p.getCoefficient(1));
+
+    //a term added and removed again leaves the count of the wrapped terms unchanged
+    p.addTerm(1, 30);
+    p.addTerm(-1, 30);
+    assertEquals(3, p.getDegree());
+    p.addTerm(2, 3);
+    assertEquals("5", p.toString());
+    assertEquals(0, p.getDegree());
+    assertEquals(new PolynomialImpl("5"), p);
+  }
+
+  /**
+   * This method tests that the operations give the same results as a sparse polynomial while the
+   * representation keeps changing.
+   */
+  @Test
+  public void testOperations() {
+
+    Random random = new Random(25);
+    AdaptivePolynomial p = new AdaptivePolynomial(0.1, 0.3);
+    Polynomial expected = new SparsePolynomial();
+
+    for (int i = 0; i < 20000; i++) {
+      int coefficient = random.nextInt(7) - 3;
+      int power = (i % 5000 < 2500) ? random.nextInt(200) : random.nextInt(5000);
+      p.addTerm(coefficient, power);
+      expected.addTerm(coefficient, power);
+
+      if (i % 997 == 0) {
+        assertEquals(expected, p);
+        assertEquals(expected.getDegree(), p.getDegree());
+        assertEquals(expected.evaluate(0.99), p.evaluate(0.99), 1e-6);
+        assertEquals(expected.getCoefficient(power), p.getCoefficient(power));
+        assertEquals(expected.derivative(), p.derivative());
+        assertEquals(expected.add(expected), p.add(p));
+      }
+    }
+
+    Polynomial small = new AdaptivePolynomial("3x^2 -1x^1 +4");
+    assertEquals(true, ((AdaptivePolynomial) small).isDense());
+    assertEquals(new PolynomialImpl("9x^4 -6x^3 +25x^2 -8x^1 +16"), small.multiply(small));
+    assertEquals(true, ((AdaptivePolynomial) small.derivative()).isDense());
+    assertEquals(false, ((AdaptivePolynomial) small.add(new PolynomialImpl("1x^100")))
+            .isDense());
+  }
+
+  /**
+   * This method tests that a dense polynomial combined with a sparse one of very high degree gives
+   * a sparse result without ever allocating a dense array up to that degree, whatever the order of
+   * the operands.
+   */
+  @Test
+  public void testOperationsWithHighDegree() {
+
+    AdaptivePolynomial d = new AdaptivePolynomial("1x^2 +1x^1 +1");
+    assertEquals(true, d.isDense());
+    Polynomial s = new SparsePolynomial("1x^1000000000");
+    AdaptivePolynomial adaptiveSparse = new AdaptivePolynomial(s);
+    assertEquals(false, adaptiveSparse.isDense());
+
+    Polynomial sum = new PolynomialImpl("1x^1000000000 +1x^2 +1x^1 +1");
+    AdaptivePolynomial[] sums = {(AdaptivePolynomial) d.add(s),
+        (AdaptivePolynomial) d.add(adaptiveSparse), (AdaptivePolynomial) adaptiveSparse.add(d)};
+    for (AdaptivePolynomial result : sums) {
+      assertEquals(sum, result);
+      assertEquals(false, result.isDense());
+    }
+
+    Polynomial product = new PolynomialImpl("1x^1000000002 +1x^1000000001 +1x^1000000000");
+    AdaptivePolynomial[] products = {(AdaptivePolynomial) d.multiply(s),
+        (AdaptivePolynomial) d.multiply(adaptiveSparse),
+        (AdaptivePolynomial) adaptiveSparse.multiply(d)};
+    for (AdaptivePolynomial result : products) {
+      assertEquals(product, result);
+      assertEquals(1000000002, result.getDegree());
+      assertEquals(false, result.isDense());
+    }
+
+    assertEquals(true, d.isDense());
+    assertEquals(new PolynomialImpl("1x^2 +1x^1 +1"), d);
+  }
+
+}
@@ -0,0 +1,92 @@
+import org.junit.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import polynomial.ConcurrentPolynomialAccumulator;
+import polynomial.Polynomial;
+import polynomial.PolynomialImpl;
+import polynomial.PolynomialScanner;
+import polynomial.SparsePolynomial;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+/**
+ * This class tests the accumulation of terms from many threads.
+ */
+public class ConcurrentPolynomialAccumulatorTest {
+
+  /**
+   * This method tests that the terms added by many threads are all summed.
+   */
+  @Test
+  public void testAddFromManyThreads() throws Exception {
+
+    ConcurrentPolynomialAccumulator accumulator = new ConcurrentPolynomialAccumulator();
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+
+    Future<?>[] futures = new Future<?>[8];
+    for (int t = 0; t < futures.length; t++) {
+      final int thread = t;
+      futures[t] = executor.submit(() -> {
+        for (int i = 0; i < 20000; i++) {
+          accumulator.addTerm(thread % 2 == 0 ? 3 : -1, i % 100);
+          accumulator.addTerm(1, 1000 + thread);
+        }
+      });
+    }
+    for (Future<?> future : futures) {
+      future.get();
+    }
+    executor.shutdown();
+
+    Polynomial expected = new SparsePolynomial();
+    for (int power = 0; power < 100; power++) {
+      expected.addTerm(8 * 200, power);
+    }
+    for (int thread = 0; thread < 8; thread++) {
+      expected.addTerm(20000, 1000 + thread);
+    }
+
+    Polynomial snapshot = accumulator.snapshot();
+    assertEquals(expected, snapshot);
+
+    accumulator.addTerm(-20000, 1007);
+    assertEquals(20000, snapshot.getCoefficient(1007));
+    assertEquals(0, accumulator.snapshot().getCoefficient(1007));
+    assertEquals(1006, accumulator.snapshot().getDegree());
+  }
+
+  /**
+   * This method tests feeding the accumulator from the parser and adding an incorrect term.
+   */
+  @Test
+  public void testAcceptAndErrors() {
+
+    ConcurrentPolynomialAccumulator accumulator = new ConcurrentPolynomialAccumulator();
+    PolynomialScanner.parse("+3x^2 -5x^1 +4 +2x^2", accumulator);
+    assertEquals("5x^2-5x^1+4", accumulator.snapshot().toString());
+    assertEquals("0", new ConcurrentPolynomialAccumulator().snapshot().toString());
+
+    ConcurrentPolynomialAccumulator large = new ConcurrentPolynomialAccumulator();
+    Polynomial expected = new PolynomialImpl();
+    int[][] terms = {{Integer.MAX_VALUE, 3}, {Integer.MAX_VALUE, 3}, {Integer.MIN_VALUE, 1},
+        {Integer.MIN_VALUE, 1}, {5, 0}};
+    for (int[] term : terms) {
+      large.addTerm(term[0], term[1]);
+      expected.addTerm(term[0], term[1]);
+    }
+    assertEquals(expected, large.snapshot());
+    assertEquals("-2x^3+5", large.snapshot().toString());
+
+    try {
+      accumulator.addTerm(1, -1);
+      fail();
+    } catch (IllegalArgumentException e) {
+      assertEquals("power cannot be less than zero!!", e.getMessage());
+    }
+  }
+
+}
@@ -0,0 +1,104 @@
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import polynomial.CopyOnWritePolynomial;
+import polynomial.PersistentPolynomial;
+import polynomial.Polynomial;
+import polynomial.PolynomialImpl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+/**
+ * This class tests the thread-safe copy on write implementation of the Polynomial Interface.
+ */
+public class CopyOnWritePolynomialTest {
+
+  /**
+   * This method tests the operations of the polynomial on a single thread.
+   */
+  @Test
+  public void testOperations() {
+
+    CopyOnWritePolynomial p = new CopyOnWritePolynomial("+3x^4 -2x^5 -5");
+    PersistentPolynomial before = p.snapshot();
+    p.addTerm(11, 1);
+    p.addTerm(0, -1);
+
+    assertEquals("-2x^5+3x^4-5", before.toString());
+    assertEquals("-2x^5+3x^4+11x^1-5", p.toString());
+    assertEquals(new PolynomialImpl("-2x^5 +3x^4 +11x^1 -5"), p);
+    assertEquals(p.hashCode(), new PolynomialImpl("-2x^5 +3x^4 +11x^1 -5").hashCode());
+    assertEquals(5, p.getDegree());
+    assertEquals(11, p.getCoefficient(1));
+    assertEquals(-2 * 32 + 3 * 16 + 22 - 5, p.evaluate(2.0), 1e-9);
+    assertEquals("-10x^4+12x^3+11", p.derivative().toString());
+    assertEquals(p, new CopyOnWritePolynomial(p));
+
+    try {
+      p.addTerm(1, -1);
+      fail();
+    } catch (IllegalArgumentException e) {
+      assertEquals("power cannot be less than zero!!", e.getMessage());
+    }
+  }
+
+  /**
+   * This method tests that readers always see a whole version while several writers add terms.
+   */
+  @Test
+  public void testConcurrentReadsAndWrites() throws InterruptedException {
+
+    CopyOnWritePolynomial p = new CopyOnWritePolynomial();
+    AtomicBoolean done = new AtomicBoolean();
+    AtomicReference<String> failure = new AtomicReference<>();
+
+    Thread[] writers = new Thread[4];
+    for (int t = 0; t < writers.length; t++) {
+      writers[t] = new Thread(() -> {
+        for (int i = 0; i < 2000; i++) {
+          p.addTerm(1, 1);
+          p.addTerm(1, 3 + i % 50);
+        }
+      });
+    }
+
+    Thread reader = new Thread(() -> {
+      double last = 0;
+      while (!done.get()) {
+        //the terms read from a version always add up to its value at 1
+        Polynomial version = p.snapshot();
+        double sum = 0;
+        for (int power = 0; power <= version.getDegree(); power++) {
+          sum += version.getCoefficient(power);
+        }
+        if (sum != version.evaluate(1.0) || sum < last) {
+          failure.set(sum + " " + version.evaluate(1.0) + " " + last);
+        }
+        last = sum;
+      }
+    });
+
+    reader.start();
+    for (Thread writer : writers) {
+      writer.start();
+    }
+    for (Thread writer : writers) {
+      writer.join();
+    }
+    done.set(true);
+    reader.join();
+
+    assertEquals(null, failure.get());
+    assertEquals(8000, p.getCoefficient(1));
+    int sum = 0;
+    for (int power = 3; power < 53; power++) {
+      sum += p.getCoefficient(power);
+    }
+    assertEquals(8000, sum);
+    assertEquals(52, p.getDegree());
+  }
+
+}
@@ -0,0 +1,152 @@
+import org.junit.Test;
+
+import polynomial.DensePolynomial;
+import polynomial.Polynomial;
+import polynomial.PolynomialImpl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+/**
+ * This class tests the dense implementation of the Polynomial Interface.
+ */
+public class DensePolynomialTest {
+
+  /**
+   * This method tests the creation of a dense polynomial by term.
+   */
+  @Test
+  public void testCreationByTerm() {
+
+    Polynomial p = new DensePolynomial();
+    assertEquals("0", p.toString());
+    assertEquals(0, p.getDegree());
+
+    p.addTerm(3, 2);
+    p.addTerm(5, 0);
+    p.addTerm(1, 1);
+    assertEquals("3x^2+1x^1+5", p.toString());
+
+    p.addTerm(8, 100);
+    assertEquals(100, p.getDegree());
+    assertEquals(8, p.getCoefficient(100));
+    assertEquals(0, p.getCoefficient(50));
+    assertEquals(0, p.getCoefficient(1000));
+
+    p.addTerm(-8, 100);
+    assertEquals(2, p.getDegree());
+    assertEquals("3x^2+1x^1+5", p.toString());
+
+    try {
+      p.addTerm(2, -2);
+      fail();
+    } catch (IllegalArgumentException e) {
+      assertEquals("power cannot be less than zero!!", e.getMessage());
+    }
+  }
+
+  /**
+   * This method tests the creation of a dense polynomial by string.
+   */
+  @Test
+  public void testCreationByString() {
+    assertEquals("-2x^5+1x^4+11x^1-5",
+            new DensePolynomial("+3x^4 -2x^5 -5 -2x^4 +11x^1").toString());
+    assertEquals("0", new DensePolynomial("").toString());
+
+    try {
+      new DensePolynomial("3x^2 5x^2");
+      fail();
+    } catch (IllegalArgumentException e) {
+      assertEquals("The polynomial is incorrect!", e.getMessage());
+    }
+  }
+
+  /**
+   * This method tests the addition of dense polynomials.
+   */
+  @Test
+  public void testAdd() {
+    Polynomial p1 = new DensePolynomial("3x^2 +5x^3 +6");
+    Polynomial p2 = new DensePolynomial("-3x^2 +4x^4 +2");
+    assertEquals("4x^4+5x^3+8", p1.add(p2).toString());
+    assertEquals("5x^3+3x^2+6", p1.toString());
+    assertEquals("4x^4-3x^2+2", p2.toString());
+
+    Polynomial p3 = new DensePolynomial("3x^2 +5x^3");
+    Polynomial p4 = new PolynomialImpl("-3x^2 -5x^3");
+    Polynomial sum = p3.add(p4);
+    assertEquals("0", sum.toString());
+    assertEquals(0, sum.getDegree());
+  }
+
+  /**
+   * This method tests the derivative and evaluation of dense polynomials.
+   */
+  @Test
+  public void testDerivativeAndEvaluate() {
+    Polynomial p = new DensePolynomial("4x^4 +5x^5 +6x^6 +7x^7");
+    assertEquals("294x^5+180x^4+100x^3+48x^2", p.derivative().derivative().toString());
+    assertEquals("0", new DensePolynomial("2").derivative().toString());
+
+    Polynomial p1 = new DensePolynomial("+3x^4 -2x^5 -5 -2x^4 +11x^1");
+    assertEquals(-31.0, p1.evaluate(2.0), 0.01);
+    assertEquals(-5.0, p1.evaluate(0.0), 0.01);
+    assertEquals(-1775.415658345827, new DensePolynomial("-19x^456").evaluate(1.01), 0.01);
+  }
+
+  /**
+   * This method tests equality between dense polynomials.
+   */
+  @Test
+  public void testEquals() {
+    Polynomial p = new DensePolynomial("2x^2 +3x^3");
+    Polynomial p1 = new DensePolynomial("3x^3 +2x^2");
+    assertEquals(true, p.equals(p1));
+    assertEquals(p.hashCode(), p1.hashCode());
+    assertEquals(false, p.equals(new DensePolynomial("2x^2")));
+    assertEquals(true, p.equals(new PolynomialImpl("2x^2 +3x^3")));
+  }
+
+  /**
+   * This method tests that coefficients that overflow wrap around like int arithmetic, in the
+   * same way as for PolynomialImpl, and that a power too large for an array is rejected.
+   */
+  @Test
+  public void testOverflow() {
+
+    Polynomial p = new DensePolynomial();
+    Polynomial expected = new PolynomialImpl();
+    p.addTerm(Integer.MAX_VALUE, 0);
+    p.addTerm(Integer.MAX_VALUE, 0);
+    expected.addTerm(Integer.MAX_VALUE, 0);
+    expected.addTerm(Integer.MAX_VALUE, 0);
+    assertEquals(-2, p.getCoefficient(0));
+    assertEquals(expected.getCoefficient(0), p.getCoefficient(0));
+    assertEquals(expected, p);
+    assertEquals(-2.0, p.evaluate(3), 0);
+
+    p.addTerm(Integer.MIN_VALUE, 3);
+    p.addTerm(Integer.MIN_VALUE, 3);
+    assertEquals(0, p.getDegree());
+    assertEquals("-2", p.toString());
+
+    p.addTerm(Integer.MAX_VALUE, 2);
+    assertEquals(new DensePolynomial("-2x^1"), p.derivative());
+    assertEquals(new DensePolynomial("-2x^2 -4"), p.add(p));
+    Polynomial q = new PolynomialImpl();
+    q.addTerm(Integer.MAX_VALUE, 2);
+    q.addTerm(-2, 0);
+    assertEquals(new PolynomialImpl("-2x^2 -4"), p.add(q));
+    assertEquals(new PolynomialImpl("-2x^2 -4"), q.add(p));
+
+    try {
+      p.addTerm(1, Integer.MAX_VALUE);
+      fail("a power too large for an array should be rejected");
+    } catch (IllegalArgumentException e) {
+      assertEquals("power is too large for a dense polynomial!!", e.getMessage());
+    }
+    assertEquals(2, p.getDegree());
+  }
+
+}
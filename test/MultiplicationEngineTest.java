@@ -0,0 +1,128 @@
+import org.junit.Test;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import polynomial.DensePolynomial;
+import polynomial.MultiplicationEngine;
+import polynomial.Polynomial;
+import polynomial.PolynomialImpl;
+import polynomial.SparsePolynomial;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+/**
+ * This class tests the multiplication of polynomials.
+ */
+public class MultiplicationEngineTest {
+
+  /**
+   * This method tests multiplication through the Polynomial interface.
+   */
+  @Test
+  public void testMultiplyPolynomials() {
+
+    Polynomial p1 = new PolynomialImpl("2x^1 +1");
+    Polynomial p2 = new PolynomialImpl("3x^1 -1");
+    assertEquals("6x^2+1x^1-1", p1.multiply(p2).toString());
+    assertEquals("2x^1+1", p1.toString());
+
+    assertEquals("0", p1.multiply(new PolynomialImpl()).toString());
+    assertEquals("6x^2+1x^1-1", new DensePolynomial("2x^1 +1").multiply(p2).toString());
+    assertEquals("6x^2+1x^1-1", new SparsePolynomial("2x^1 +1").multiply(p2).toString());
+
+    Polynomial sparse = new SparsePolynomial("1x^100000 +3x^7 -1");
+    assertEquals("1x^200000+6x^100007-2x^100000+9x^14-6x^7+1",
+            sparse.multiply(sparse).toString());
+  }
+
+  /**
+   * This method tests that products too large to be stored are rejected before anything is
+   * allocated for them.
+   */
+  @Test
+  public void testMultiplyTooLarge() {
+
+    Polynomial high = new SparsePolynomial("1x^2000000000 +1");
+    try {
+      high.multiply(high);
+      fail("a product whose degree does not fit in an int should be rejected");
+    } catch (IllegalArgumentException e) {
+      assertEquals("the degree of the product is too large!!", e.getMessage());
+    }
+
+    Polynomial many = new SparsePolynomial();
+    for (int i = 0; i < 50000; i++) {
+      many.addTerm(1, i * 10000);
+    }
+    try {
+      many.multiply(many);
+      fail("a product with more terms than an array can hold should be rejected");
+    } catch (IllegalArgumentException e) {
+      assertEquals("the product has too many terms!!", e.getMessage());
+    }
+  }
+
+  /**
+   * This method tests that every strategy gives the same product as the schoolbook method.
+   */
+  @Test
+  public void testStrategies() {
+
+    Random random = new Random(42);
+    MultiplicationEngine sequential = new MultiplicationEngine();
+    ForkJoinPool pool = new ForkJoinPool(4);
+    try {
+      MultiplicationEngine parallel = new MultiplicationEngine(pool);
+
+      int[][] sizes = {{5, 7}, {40, 45}, {300, 200}, {3000, 2500}, {5000, 40}};
+      for (int[] size : sizes) {
+        for (long bound : new long[]{1000, 1L << 30}) {
+          long[] a = randomCoefficients(random, size[0], bound);
+          long[] b = randomCoefficients(random, size[1], bound);
+          long[] expected = schoolbook(a, b);
+          assertArrayEquals(expected, sequential.multiply(a, b));
+          assertArrayEquals(expected, parallel.multiply(a, b));
+        }
+      }
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  /**
+   * This method creates an array of random coefficients.
+   *
+   * @param random the source of randomness.
+   * @param length the length of the array.
+   * @param bound  the bound on the absolute value of each coefficient.
+   * @return the coefficients.
+   */
+  private static long[] randomCoefficients(Random random, int length, long bound) {
+    long[] coefficients = new long[length];
+    for (int i = 0; i < length; i++) {
+      coefficients[i] = (long) ((random.nextDouble() * 2 - 1) * bound);
+    }
+    return coefficients;
+  }
+
+  /**
+   * This method multiplies two coefficient arrays pair by pair.
+   *
+   * @param a the first operand.
+   * @param b the second operand.
+   * @return the product.
+   */
+  private static long[] schoolbook(long[] a, long[] b) {
+    long[] product = new long[a.length + b.length - 1];
+    for (int i = 0; i < a.length; i++) {
+      for (int j = 0; j < b.length; j++) {
+        product[i + j] += a[i] * b[j];
+      }
+    }
+    return product;
+  }
+
+}
@@ -0,0 +1,147 @@
+import org.junit.Test;
+
+import polynomial.OffHeapPolynomial;
+import polynomial.Polynomial;
+import polynomial.PolynomialImpl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+/**
+ * This class tests the polynomial whose coefficients are kept off the heap.
+ */
+public class OffHeapPolynomialTest {
+
+  /**
+   * This method tests adding terms, including terms beyond the initial capacity and terms that
+   * cancel out the leading term.
+   */
+  @Test
+  public void testAddTerm() {
+
+    try (OffHeapPolynomial p = new OffHeapPolynomial(2)) {
+      p.addTerm(3, 0);
+      p.addTerm(-2, 1);
+      p.addTerm(5, 100);
+      p.addTerm(4, 7);
+      assertEquals(100, p.getDegree());
+      assertEquals(5, p.getCoefficient(100));
+      assertEquals(0, p.getCoefficient(50));
+      assertEquals(0, p.getCoefficient(-1));
+      assertEquals(0, p.getCoefficient(200));
+
+      p.addTerm(-5, 100);
+      assertEquals(7, p.getDegree());
+      assertEquals("4x^7-2x^1+3", p.toString());
+      assertEquals(new PolynomialImpl("4x^7 -2x^1 +3"), p);
+      assertEquals(new PolynomialImpl("4x^7 -2x^1 +3").hashCode(), p.hashCode());
+
+      try {
+        p.addTerm(1, -1);
+        fail("a negative power should be rejected");
+      } catch (IllegalArgumentException e) {
+        assertEquals("power cannot be less than zero!!", e.getMessage());
+      }
+
+      try {
+        p.addTerm(1, Integer.MAX_VALUE);
+        fail("a power too large for a buffer should be rejected");
+      } catch (IllegalArgumentException e) {
+        assertEquals("the polynomial is too large to be stored off the heap", e.getMessage());
+      }
+      assertEquals("4x^7-2x^1+3", p.toString());
+    }
+  }
+
+  /**
+   * This method tests that coefficients wrap around like int arithmetic, as in a heap polynomial.
+   */
+  @Test
+  public void testOverflow() {
+
+    Polynomial heap = new PolynomialImpl();
+    try (OffHeapPolynomial p = new OffHeapPolynomial()) {
+      int[][] terms = {{Integer.MAX_VALUE, 3}, {Integer.MAX_VALUE, 3}, {Integer.MIN_VALUE, 1},
+          {Integer.MIN_VALUE, 1}, {1 << 30, 2}, {7, 0}};
+      for (int[] term : terms) {
+        p.addTerm(term[0], term[1]);
+        heap.addTerm(term[0], term[1]);
+      }
+      assertEquals(-2, p.getCoefficient(3));
+      assertEquals(0, p.getCoefficient(1));
+      assertEquals(heap, p);
+      assertEquals(heap.toString(), p.toString());
+
+      try (OffHeapPolynomial sum = (OffHeapPolynomial) p.add(p);
+           OffHeapPolynomial mixed = (OffHeapPolynomial) p.add(heap);
+           OffHeapPolynomial derivative = (OffHeapPolynomial) p.derivative()) {
+        assertEquals(heap.add(heap), sum);
+        assertEquals(Integer.MIN_VALUE, sum.getCoefficient(2));
+        assertEquals(heap.add(heap), mixed);
+        assertEquals(heap.derivative(), derivative);
+        assertEquals(Integer.MIN_VALUE, derivative.getCoefficient(1));
+      }
+    }
+  }
+
+  /**
+   * This method tests evaluating, adding and differentiating against a heap polynomial.
+   */
+  @Test
+  public void testOperations() {
+
+    Polynomial heap = new PolynomialImpl("2x^9 -3x^4 +1x^1 -7");
+    Polynomial other = new PolynomialImpl("-2x^9 +5x^3 +1");
+
+    try (OffHeapPolynomial p = new OffHeapPolynomial(heap);
+         OffHeapPolynomial q = new OffHeapPolynomial(other)) {
+
+      assertEquals(heap, p);
+      assertEquals(heap.evaluate(1.5), p.evaluate(1.5), 1e-9);
+
+      double[] xs = {-2, -1, 0, 0.5, 1, 2, 3};
+      double[] out = new double[xs.length];
+      p.evaluate(xs, 0, out, 0, xs.length);
+      for (int i = 0; i < xs.length; i++) {
+        assertEquals(heap.evaluate(xs[i]), out[i], 1e-9);
+      }
+
+      try (OffHeapPolynomial sum = (OffHeapPolynomial) p.add(q);
+           OffHeapPolynomial mixed = (OffHeapPolynomial) p.add(other);
+           OffHeapPolynomial derivative = (OffHeapPolynomial) p.derivative()) {
+        assertEquals(heap.add(other), sum);
+        assertEquals(4, sum.getDegree());
+        assertEquals(heap.add(other), mixed);
+        assertEquals(heap.derivative(), derivative);
+      }
+
+      assertEquals(heap.multiply(other), p.multiply(q));
+    }
+  }
+
+  /**
+   * This method tests that a closed polynomial cannot be used any more.
+   */
+  @Test
+  public void testClose() {
+
+    OffHeapPolynomial p = new OffHeapPolynomial(new PolynomialImpl("1x^2 +1"));
+    p.close();
+    p.close();
+
+    try {
+      p.evaluate(1);
+      fail("a closed polynomial should not be evaluated");
+    } catch (IllegalStateException e) {
+      assertEquals("the polynomial has been closed", e.getMessage());
+    }
+
+    try {
+      p.addTerm(1, 1);
+      fail("a closed polynomial should not be changed");
+    } catch (IllegalStateException e) {
+      assertEquals("the polynomial has been closed", e.getMessage());
+    }
+  }
+
+}
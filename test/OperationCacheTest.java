@@ -0,0 +1,89 @@
+import org.junit.Test;
+
+import polynomial.CacheStats;
+import polynomial.DensePolynomial;
+import polynomial.OperationCache;
+import polynomial.PersistentPolynomial;
+import polynomial.Polynomial;
+import polynomial.PolynomialImpl;
+import polynomial.SparsePolynomial;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+/**
+ * This class tests the cache of the results of operations on polynomials.
+ */
+public class OperationCacheTest {
+
+  /**
+   * This method tests that repeated operations on the same terms return the cached results.
+   */
+  @Test
+  public void testHitsAndMisses() {
+
+    OperationCache cache = new OperationCache(8);
+    Polynomial p = new PolynomialImpl("+3x^4 -2x^5 -5 +11x^1");
+    Polynomial q = new PolynomialImpl("2x^2 -1");
+    Polynomial dense = new DensePolynomial(q);
+
+    PersistentPolynomial sum = cache.add(p, q);
+    PersistentPolynomial derivative = cache.derivative(p);
+    PersistentPolynomial product = cache.multiply(p, dense);
+
+    assertEquals(p.add(q), sum);
+    assertEquals(p.derivative(), derivative);
+    assertEquals(p.multiply(q), product);
+
+    assertSame(sum, cache.add(p, q));
+    assertSame(sum, cache.add(PersistentPolynomial.of(p), q));
+    assertSame(derivative, cache.derivative(new PolynomialImpl("-2x^5 +3x^4 +11x^1 -5")));
+    assertSame(product, cache.multiply(new SparsePolynomial(p), dense));
+
+    CacheStats stats = cache.stats();
+    assertEquals(4, stats.hitCount());
+    assertEquals(3, stats.missCount());
+    assertEquals(0, stats.evictionCount());
+    assertEquals(3, cache.size());
+
+    //sums and derivatives of operands that would have to be copied are not cached
+    assertEquals(sum, cache.add(new SparsePolynomial(p), dense));
+    assertEquals(sum, cache.add(p, dense));
+    assertEquals(derivative, cache.derivative(new DensePolynomial(p)));
+    stats = cache.stats();
+    assertEquals(4, stats.hitCount());
+    assertEquals(3, stats.missCount());
+    assertEquals(3, cache.size());
+  }
+
+  /**
+   * This method tests that changing an operand gives a new result and that the least recently
+   * used results are dropped.
+   */
+  @Test
+  public void testChangesAndEviction() {
+
+    OperationCache cache = new OperationCache(2);
+    Polynomial p = new PolynomialImpl("3x^2 +1");
+
+    assertEquals("6x^1", cache.derivative(p).toString());
+    p.addTerm(1, 3);
+    assertEquals("3x^2+6x^1", cache.derivative(p).toString());
+    p.addTerm(-1, 3);
+    assertEquals("6x^1", cache.derivative(p).toString());
+    assertEquals(1, cache.stats().hitCount());
+
+    cache.derivative(new PolynomialImpl("5x^5"));
+    assertEquals(1, cache.stats().evictionCount());
+    assertEquals(2, cache.size());
+
+    try {
+      new OperationCache(0);
+      fail();
+    } catch (IllegalArgumentException e) {
+      assertEquals("capacity must be positive!!", e.getMessage());
+    }
+  }
+
+}
@@ -0,0 +1,86 @@
+import org.junit.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import polynomial.DensePolynomial;
+import polynomial.ParallelEvaluator;
+import polynomial.Polynomial;
+import polynomial.PolynomialImpl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+/**
+ * This class tests the parallel evaluation of polynomials.
+ */
+public class ParallelEvaluatorTest {
+
+  /**
+   * This method tests the parallel evaluation of an array of values.
+   */
+  @Test
+  public void testEvaluateArray() {
+
+    ForkJoinPool pool = new ForkJoinPool(4);
+    try {
+      ParallelEvaluator evaluator = new ParallelEvaluator(pool, 7);
+      Polynomial p = new PolynomialImpl("+3x^4 -2x^5 -5 -2x^4 +11x^1");
+
+      double[] xs = new double[1000];
+      for (int i = 0; i < xs.length; i++) {
+        xs[i] = (i - 500) / 250.0;
+      }
+      double[] out = new double[xs.length];
+      evaluator.evaluate(p, xs, out);
+
+      for (int i = 0; i < xs.length; i++) {
+        assertEquals(p.evaluate(xs[i]), out[i], 1e-9);
+      }
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  /**
+   * This method tests the parallel evaluation of a grid of values.
+   */
+  @Test
+  public void testEvaluateRange() {
+
+    ForkJoinPool pool = new ForkJoinPool(4);
+    try {
+      ParallelEvaluator evaluator = new ParallelEvaluator(pool, 16);
+      Polynomial p = new DensePolynomial("2x^3 +3x^1 -7");
+
+      double[] out = new double[1001];
+      assertEquals(1001, evaluator.evaluateRange(p, -5.0, 5.0, 0.01, out));
+      assertEquals(p.evaluate(-5.0), out[0], 1e-9);
+      assertEquals(p.evaluate(-5.0 + 0.01 * 731), out[731], 1e-9);
+      assertEquals(p.evaluate(5.0), out[1000], 1e-6);
+
+      //0.3 / 0.1 is slightly less than 3, but the grid still ends at b
+      assertEquals(4, evaluator.evaluateRange(p, 0.0, 0.3, 0.1, out));
+      assertEquals(p.evaluate(0.3), out[3], 1e-9);
+      assertEquals(3, evaluator.evaluateRange(p, 0.0, 0.25, 0.1, out));
+      assertEquals(1, evaluator.evaluateRange(p, 2.0, 2.0, 0.1, out));
+      assertEquals(4, evaluator.evaluateRange(p, 0.0, 0.3, 0.1, new double[4]));
+
+      try {
+        evaluator.evaluateRange(p, 0.0, 1.0, 0.01, new double[10]);
+        fail();
+      } catch (IndexOutOfBoundsException e) {
+        assertEquals("the grid does not fit in the array", e.getMessage());
+      }
+
+      try {
+        evaluator.evaluateRange(p, 1.0, 0.0, 0.01, out);
+        fail();
+      } catch (IllegalArgumentException e) {
+        assertEquals("the grid is incorrect!", e.getMessage());
+      }
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+}
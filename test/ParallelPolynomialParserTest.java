@@ -0,0 +1,96 @@
+import org.junit.Test;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import polynomial.ParallelPolynomialParser;
+import polynomial.Polynomial;
+import polynomial.PolynomialFormatException;
+import polynomial.PolynomialImpl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+/**
+ * This class tests the parallel parsing of polynomials.
+ */
+public class ParallelPolynomialParserTest {
+
+  /**
+   * This method tests that a large text split into many pieces gives the same polynomial as the
+   * sequential constructor.
+   */
+  @Test
+  public void testParseLargeText() {
+
+    Random random = new Random(12);
+    StringBuilder text = new StringBuilder();
+    for (int i = 0; i < 20000; i++) {
+      text.append(random.nextBoolean() ? '+' : '-').append(random.nextInt(1000));
+      int power = random.nextInt(300);
+      if (power > 0) {
+        text.append('y').append('^').append(power);
+      }
+      text.append(' ');
+    }
+    text.append("+2147483647y^7 +2147483647y^7");
+
+    ForkJoinPool pool = new ForkJoinPool(4);
+    try {
+      ParallelPolynomialParser parser = new ParallelPolynomialParser(pool, 64);
+      Polynomial expected = new PolynomialImpl(text.toString());
+      Polynomial actual = parser.parse(text);
+
+      assertEquals(expected.toString(), actual.toString());
+      assertEquals(expected, actual);
+      assertEquals("0", parser.parse("").toString());
+
+      //tabs and line breaks around the terms are ignored wherever the text is split
+      String lines = text.toString().replace(" +", "\n +").replace(" -", "\t -") + "\r\n";
+      assertEquals(expected, new PolynomialImpl(lines));
+      assertEquals(expected, parser.parse(lines));
+      assertEquals(expected, new ParallelPolynomialParser(pool, 1).parse(lines));
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  /**
+   * This method tests that incorrect texts are reported with the same error as the sequential
+   * constructor, wherever the pieces are split.
+   */
+  @Test
+  public void testParseErrors() {
+
+    String[] texts = {"+3x^2 -5x^1 +4 +7x^ +1x^1", "+3x^2 -5x^1 +4 +2y^1 +1x^1",
+        "+3x^2 -5x^1 +4 5x^2 +2y^1", "+3 +4 +5 +6 +7x^1 +8y^1", "+3 +4 +5 +6 +7 +8x^1 +9xx^1",
+        "+3 +4 +5 +6 +7 +1 +2 +3 +4x^1 +5 2147483648", "+3x^2 \n-5x^1 +4\n+1 +2x\t^2",
+        "\t+3x^2 +4 \n+5 +2y^1\n"};
+
+    ForkJoinPool pool = new ForkJoinPool(3);
+    try {
+      for (int granularity = 1; granularity < 12; granularity++) {
+        ParallelPolynomialParser parser = new ParallelPolynomialParser(pool, granularity);
+        for (String text : texts) {
+          PolynomialFormatException expected = null;
+          try {
+            new PolynomialImpl(text);
+            fail();
+          } catch (PolynomialFormatException e) {
+            expected = e;
+          }
+          try {
+            parser.parse(text);
+            fail();
+          } catch (PolynomialFormatException e) {
+            assertEquals(expected.getMessage(), e.getMessage());
+            assertEquals(expected.getErrorOffset(), e.getErrorOffset());
+          }
+        }
+      }
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+}
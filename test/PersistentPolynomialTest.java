@@ -0,0 +1,104 @@
+import org.junit.Test;
+
+import java.util.Random;
+
+import polynomial.PersistentPolynomial;
+import polynomial.Polynomial;
+import polynomial.PolynomialImpl;
+import polynomial.SparsePolynomial;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+/**
+ * This class tests the immutable implementation of the Polynomial Interface.
+ */
+public class PersistentPolynomialTest {
+
+  /**
+   * This method tests that adding a term returns a new polynomial and leaves the old one as it
+   * was.
+   */
+  @Test
+  public void testWithTerm() {
+
+    PersistentPolynomial empty = PersistentPolynomial.empty();
+    PersistentPolynomial p = empty.withTerm(3, 4).withTerm(-2, 5).withTerm(-5, 0);
+    PersistentPolynomial q = p.withTerm(11, 1);
+    PersistentPolynomial r = q.withTerm(2, 5);
+
+    assertEquals("0", empty.toString());
+    assertEquals("-2x^5+3x^4-5", p.toString());
+    assertEquals("-2x^5+3x^4+11x^1-5", q.toString());
+    assertEquals("3x^4+11x^1-5", r.toString());
+    assertEquals(5, q.getDegree());
+    assertEquals(4, r.getDegree());
+    assertEquals(11, r.getCoefficient(1));
+    assertEquals(0, p.getCoefficient(1));
+    assertEquals(new PolynomialImpl("3x^4 +11x^1 -5"), r);
+    assertEquals(r.evaluate(1.5), new PolynomialImpl("3x^4 +11x^1 -5").evaluate(1.5), 1e-9);
+    assertEquals(empty, p.withTerm(2, 5).withTerm(-3, 4).withTerm(5, 0));
+
+    //coefficients wrap around like int arithmetic, as in every other implementation
+    PersistentPolynomial large = empty.withTerm(Integer.MAX_VALUE, 3).withTerm(Integer.MAX_VALUE, 3)
+            .withTerm(Integer.MIN_VALUE, 1).withTerm(Integer.MIN_VALUE, 1);
+    Polynomial expected = new PolynomialImpl();
+    expected.addTerm(Integer.MAX_VALUE, 3);
+    expected.addTerm(Integer.MAX_VALUE, 3);
+    assertEquals(-2, large.getCoefficient(3));
+    assertEquals(0, large.getCoefficient(1));
+    assertEquals(expected, large);
+    assertEquals(expected.derivative(), large.derivative());
+    assertEquals(new PolynomialImpl("-6x^2"), large.derivative());
+    assertEquals(q.derivative(), new PolynomialImpl("-10x^4 +12x^3 +11"));
+
+    try {
+      p.addTerm(1, 1);
+      fail();
+    } catch (UnsupportedOperationException e) {
+      assertEquals("the polynomial cannot be changed", e.getMessage());
+    }
+
+    try {
+      p.withTerm(1, -1);
+      fail();
+    } catch (IllegalArgumentException e) {
+      assertEquals("power cannot be less than zero!!", e.getMessage());
+    }
+  }
+
+  /**
+   * This method tests a long sequence of versions against a mutable polynomial, checking that
+   * every old version keeps its terms.
+   */
+  @Test
+  public void testVersions() {
+
+    Random random = new Random(15);
+    Polynomial expected = new SparsePolynomial();
+    PersistentPolynomial p = PersistentPolynomial.empty();
+    PersistentPolynomial[] versions = new PersistentPolynomial[2000];
+    String[] texts = new String[versions.length];
+
+    for (int i = 0; i < versions.length; i++) {
+      int coefficient = random.nextInt(7) - 3;
+      int power = random.nextInt(200);
+      expected.addTerm(coefficient, power);
+      p = p.withTerm(coefficient, power);
+      versions[i] = p;
+      texts[i] = expected.toString();
+    }
+
+    for (int i = 0; i < versions.length; i++) {
+      assertEquals(texts[i], versions[i].toString());
+    }
+
+    assertEquals(expected, p);
+    assertEquals(expected.hashCode(), p.hashCode());
+    assertEquals(p, PersistentPolynomial.of(expected));
+    assertEquals(expected.add(expected), p.add(p));
+    assertEquals(expected.derivative(), p.derivative());
+    assertEquals(expected.multiply(expected), p.multiply(p));
+  }
+
+}
@@ -0,0 +1,83 @@
+import org.junit.Test;
+
+import java.util.Random;
+
+import polynomial.Polynomial;
+import polynomial.PolynomialBuilder;
+import polynomial.PolynomialImpl;
+import polynomial.PolynomialScanner;
+import polynomial.TermIterator;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+/**
+ * This class tests building polynomials in bulk.
+ */
+public class PolynomialBuilderTest {
+
+  /**
+   * This method tests that the built polynomial has the same terms as one built term by term.
+   */
+  @Test
+  public void testBuild() {
+
+    Random random = new Random(21);
+    PolynomialBuilder builder = new PolynomialBuilder();
+    Polynomial expected = new PolynomialImpl();
+
+    int[] coefficients = new int[50000];
+    int[] powers = new int[coefficients.length];
+    for (int i = 0; i < coefficients.length; i++) {
+      coefficients[i] = random.nextInt(21) - 10;
+      powers[i] = random.nextInt(5000);
+      expected.addTerm(coefficients[i], powers[i]);
+    }
+    builder.addAll(coefficients, powers);
+    builder.addTerm(Integer.MAX_VALUE, 7000).addTerm(Integer.MAX_VALUE, 7000);
+    builder.addTerm(Integer.MIN_VALUE, 7002).addTerm(Integer.MIN_VALUE, 7002);
+    builder.addTerm(5, 7001).addTerm(-5, 7001);
+
+    //the sums wrap around like int arithmetic, so the terms of 7002 cancel out
+    Polynomial built = builder.build();
+    assertEquals(7000, built.getDegree());
+    assertEquals(-2, built.getCoefficient(7000));
+    TermIterator top = built.terms();
+    top.next();
+    assertEquals(-2L, top.getCoefficient());
+
+    builder.addTerm(1, 7000).addTerm(1, 7000);
+
+    assertEquals(expected, builder.build());
+    assertEquals(expected.toString(), builder.build().toString());
+  }
+
+  /**
+   * This method tests feeding the builder from the parser and the errors it reports.
+   */
+  @Test
+  public void testAcceptAndErrors() {
+
+    PolynomialBuilder builder = new PolynomialBuilder(4);
+    PolynomialScanner.parse("+3x^2 -5x^1 +4 +2x^2 +5x^1", builder);
+    assertEquals("5x^2+4", builder.build().toString());
+    builder.clear();
+    assertEquals("0", builder.build().toString());
+
+    try {
+      builder.addAll(new int[] {1, 2}, new int[] {1, -2});
+      fail();
+    } catch (IllegalArgumentException e) {
+      assertEquals("power cannot be less than zero!!", e.getMessage());
+    }
+    assertEquals("0", builder.build().toString());
+
+    try {
+      builder.addAll(new int[] {1, 2}, new int[] {1});
+      fail();
+    } catch (IllegalArgumentException e) {
+      assertEquals("the arrays have different lengths!!", e.getMessage());
+    }
+  }
+
+}
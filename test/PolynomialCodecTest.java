@@ -0,0 +1,229 @@
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import polynomial.EncodedPolynomial;
+import polynomial.Polynomial;
+import polynomial.PolynomialCodec;
+import polynomial.PolynomialFormatException;
+import polynomial.PolynomialImpl;
+import polynomial.SparsePolynomial;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+/**
+ * This class tests the binary encoding of polynomials.
+ */
+public class PolynomialCodecTest {
+
+  /**
+   * This method tests that a polynomial decodes to the same terms it was encoded from, and that
+   * the encoded form is much smaller than the text.
+   */
+  @Test
+  public void testEncodeAndDecode() {
+
+    Polynomial p = new PolynomialImpl("-5x^1000000 +3x^4 -2x^1 +7");
+    ByteBuffer encoded = PolynomialCodec.encode(p);
+    assertEquals(PolynomialCodec.encodedSize(p), encoded.remaining());
+    assertEquals(14, encoded.remaining());
+
+    EncodedPolynomial decoded = PolynomialCodec.decode(encoded);
+    assertEquals(0, encoded.remaining());
+    assertEquals(p, decoded);
+    assertEquals(p.hashCode(), decoded.hashCode());
+    assertEquals(p.toString(), decoded.toString());
+    assertEquals(1000000, decoded.getDegree());
+    assertEquals(3, decoded.getCoefficient(4));
+    assertEquals(0, decoded.getCoefficient(3));
+    assertEquals(7, decoded.getCoefficient(0));
+    assertEquals(p.evaluate(1.0), decoded.evaluate(1.0), 0);
+    assertEquals(p.derivative(), decoded.derivative());
+    assertEquals(p.add(p), decoded.add(decoded));
+
+    Polynomial empty = PolynomialCodec.decode(PolynomialCodec.encode(new PolynomialImpl()));
+    assertEquals(new PolynomialImpl(), empty);
+    assertEquals(0.0, empty.evaluate(2), 0);
+
+    Random random = new Random(24);
+    Polynomial large = new SparsePolynomial();
+    for (int i = 0; i < 10000; i++) {
+      large.addTerm(random.nextInt(2001) - 1000, random.nextInt(100000));
+    }
+    ByteBuffer buffer = ByteBuffer.allocate(PolynomialCodec.encodedSize(large) + 1);
+    PolynomialCodec.encode(large, buffer);
+    buffer.flip();
+    assertEquals(large, PolynomialCodec.decode(buffer));
+    assertEquals(large.evaluate(0.999), PolynomialCodec.decode(PolynomialCodec.encode(large))
+            .evaluate(0.999), 1e-6);
+    assertEquals(true, buffer.capacity() * 3 < large.toString().length());
+
+    try {
+      PolynomialCodec.encode(large, ByteBuffer.allocate(10));
+      fail("a polynomial that does not fit should be rejected");
+    } catch (BufferOverflowException e) {
+      // expected
+    }
+  }
+
+  /**
+   * This method tests that incorrect bytes are rejected.
+   */
+  @Test
+  public void testIncorrectBytes() {
+
+    byte[][] incorrect = {
+        {3, 1, 0, 0},
+        {5, 2, 4, 2, 0, 2},
+        {4, 1, 2, 2, 9},
+        {2, 5, 1},
+        {7, 1, 0, (byte) 0x80, (byte) 0x80, (byte) 0x80, (byte) 0x80, 0x10},
+    };
+    for (byte[] bytes : incorrect) {
+      try {
+        PolynomialCodec.decode(ByteBuffer.wrap(bytes));
+        fail("incorrect bytes should be rejected");
+      } catch (PolynomialFormatException e) {
+        assertEquals("The encoded polynomial is incorrect!", e.getMessage());
+      }
+    }
+
+    try {
+      PolynomialCodec.decode(ByteBuffer.wrap(new byte[] {-1, -1, -1, -1, 0x10, 1}));
+      fail("a size that does not fit in an int should be rejected");
+    } catch (PolynomialFormatException e) {
+      assertEquals(4, e.getErrorOffset());
+    }
+
+    ByteBuffer truncated = ByteBuffer.wrap(new byte[] {9, 1, 2});
+    try {
+      PolynomialCodec.decode(truncated);
+      fail("a truncated polynomial should be rejected");
+    } catch (BufferUnderflowException e) {
+      assertEquals(0, truncated.position());
+    }
+  }
+
+  /**
+   * This method tests sending many polynomials through a channel.
+   */
+  @Test
+  public void testChannels() throws IOException {
+
+    Random random = new Random(42);
+    List<Polynomial> polynomials = new ArrayList<>();
+    for (int i = 0; i < 2000; i++) {
+      Polynomial p = new SparsePolynomial();
+      for (int j = random.nextInt(i % 100 == 0 ? 20000 : 30); j > 0; j--) {
+        p.addTerm(random.nextInt(), random.nextInt(1 << 20));
+      }
+      polynomials.add(p);
+    }
+
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    PolynomialCodec.Encoder encoder = new PolynomialCodec.Encoder(Channels.newChannel(bytes));
+    for (Polynomial p : polynomials) {
+      encoder.write(p);
+    }
+    encoder.flush();
+
+    PolynomialCodec.Decoder decoder = new PolynomialCodec.Decoder(
+            Channels.newChannel(new ByteArrayInputStream(bytes.toByteArray())));
+    for (Polynomial p : polynomials) {
+      assertEquals(p, decoder.read());
+    }
+    assertEquals(null, decoder.read());
+
+    byte[] cut = new byte[bytes.size() - 1];
+    System.arraycopy(bytes.toByteArray(), 0, cut, 0, cut.length);
+    decoder = new PolynomialCodec.Decoder(Channels.newChannel(new ByteArrayInputStream(cut)));
+    try {
+      for (int i = 0; i <= polynomials.size(); i++) {
+        decoder.read();
+      }
+      fail("a channel ending in the middle of a polynomial should be rejected");
+    } catch (IOException e) {
+      assertEquals("the channel ended in the middle of a polynomial", e.getMessage());
+    }
+  }
+
+  /**
+   * This method tests that the sizes read from a channel are checked before anything is
+   * allocated for them.
+   */
+  @Test
+  public void testFrameSizes() throws IOException {
+
+    byte[][] sizes = {{-1, -1, -1, -1, 0x07}, {-1, -1, -1, -1, 0x17}};
+    String[] messages = {"The encoded polynomial is too large!",
+        "The encoded polynomial is incorrect!"};
+    for (int i = 0; i < sizes.length; i++) {
+      PolynomialCodec.Decoder decoder = new PolynomialCodec.Decoder(
+              Channels.newChannel(new ByteArrayInputStream(sizes[i])));
+      try {
+        decoder.read();
+        fail("an incorrect size should be rejected");
+      } catch (PolynomialFormatException e) {
+        assertEquals(messages[i], e.getMessage());
+        assertEquals(4, e.getErrorOffset());
+      }
+    }
+
+    //a size of 1 GB followed by a few bytes only reads the bytes that are there
+    PolynomialCodec.Decoder decoder = new PolynomialCodec.Decoder(
+            Channels.newChannel(new ByteArrayInputStream(new byte[] {-128, -128, -128, 4, 1, 0})));
+    try {
+      decoder.read();
+      fail("a channel ending in the middle of a polynomial should be rejected");
+    } catch (IOException e) {
+      assertEquals("the channel ended in the middle of a polynomial", e.getMessage());
+    }
+
+    Polynomial p = new PolynomialImpl("-5x^1000000 +3x^4 -2x^1 +7");
+    Polynomial large = new SparsePolynomial();
+    for (int power = 0; power < 100000; power += 3) {
+      large.addTerm(power + 1, power);
+    }
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    PolynomialCodec.Encoder encoder = new PolynomialCodec.Encoder(Channels.newChannel(bytes));
+    encoder.write(p);
+    encoder.write(large);
+    encoder.write(p);
+    encoder.flush();
+
+    decoder = new PolynomialCodec.Decoder(
+            Channels.newChannel(new ByteArrayInputStream(bytes.toByteArray())));
+    assertEquals(p, decoder.read());
+    assertEquals(large, decoder.read());
+    assertEquals(p, decoder.read());
+
+    decoder = new PolynomialCodec.Decoder(
+            Channels.newChannel(new ByteArrayInputStream(bytes.toByteArray())), 14);
+    assertEquals(p, decoder.read());
+    try {
+      decoder.read();
+      fail("a polynomial larger than the maximum frame size should be rejected");
+    } catch (PolynomialFormatException e) {
+      assertEquals("The encoded polynomial is too large!", e.getMessage());
+      assertEquals(2, e.getErrorOffset());
+    }
+
+    try {
+      new PolynomialCodec.Decoder(Channels.newChannel(new ByteArrayInputStream(new byte[0])), 0);
+      fail("a maximum frame size that is not positive should be rejected");
+    } catch (IllegalArgumentException e) {
+      assertEquals("the maximum frame size must be positive!!", e.getMessage());
+    }
+  }
+
+}
@@ -0,0 +1,59 @@
+import org.junit.Test;
+
+import java.util.function.DoubleUnaryOperator;
+
+import polynomial.Polynomial;
+import polynomial.PolynomialCompiler;
+import polynomial.PolynomialImpl;
+import polynomial.SparsePolynomial;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * This class tests the compilation of polynomials into evaluators.
+ */
+public class PolynomialCompilerTest {
+
+  /**
+   * This method tests that compiled evaluators agree with evaluate.
+   */
+  @Test
+  public void testCompile() {
+
+    Polynomial[] polynomials = {
+        new PolynomialImpl("+3x^4 -2x^5 -5 -2x^4 +11x^1"),
+        new PolynomialImpl("-19x^456"),
+        new PolynomialImpl("2x^3 +3x^1"),
+        new PolynomialImpl("-90"),
+        new PolynomialImpl(""),
+        new SparsePolynomial("1x^100000 +3x^7 -1")
+    };
+
+    for (Polynomial p : polynomials) {
+      DoubleUnaryOperator compiled = PolynomialCompiler.compile(p);
+      for (double x : new double[]{0.0, 1.0, -1.5, 1.01, 2.0, 10.3}) {
+        assertEquals(p.evaluate(x), compiled.applyAsDouble(x), 1e-9 * Math.abs(p.evaluate(x)));
+      }
+    }
+  }
+
+  /**
+   * This method tests that a compiled evaluator is a snapshot of the polynomial, including for
+   * polynomials with too many terms to be unrolled.
+   */
+  @Test
+  public void testCompileSnapshot() {
+
+    Polynomial p = new PolynomialImpl();
+    for (int power = 0; power < 200; power++) {
+      p.addTerm(power % 7 - 3, power);
+    }
+    double expected = p.evaluate(0.99);
+
+    DoubleUnaryOperator compiled = PolynomialCompiler.compile(p);
+    p.addTerm(5, 3);
+
+    assertEquals(expected, compiled.applyAsDouble(0.99), 1e-9);
+  }
+
+}
@@ -0,0 +1,78 @@
+import org.junit.Test;
+
+import polynomial.PersistentPolynomial;
+import polynomial.Polynomial;
+import polynomial.PolynomialFormatException;
+import polynomial.PolynomialImpl;
+import polynomial.PolynomialParser;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+/**
+ * This class tests the parser that remembers the polynomials it has parsed.
+ */
+public class PolynomialParserTest {
+
+  /**
+   * This method tests that the same text is parsed once and that copies can be changed.
+   */
+  @Test
+  public void testParse() {
+
+    PolynomialParser parser = new PolynomialParser(10, 1000);
+    String text = "+3x^4 -2x^5 -5 +11x^1";
+
+    PersistentPolynomial p = parser.parse(text);
+    assertEquals(new PolynomialImpl(text), p);
+    assertSame(p, parser.parse(new String(text.toCharArray())));
+
+    Polynomial copy = parser.parseCopy(text);
+    copy.addTerm(1, 1);
+    assertEquals("-2x^5+3x^4+12x^1-5", copy.toString());
+    assertEquals("-2x^5+3x^4+11x^1-5", parser.parse(text).toString());
+
+    assertEquals(3, parser.stats().hitCount());
+    assertEquals(1, parser.stats().missCount());
+    assertEquals(1, parser.size());
+    assertEquals(text.length(), parser.weight());
+
+    try {
+      parser.parse("+3x^4 -2y^5");
+      fail();
+    } catch (PolynomialFormatException e) {
+      assertEquals("the place holders are different", e.getMessage());
+    }
+    assertEquals(1, parser.size());
+  }
+
+  /**
+   * This method tests that the cache drops the least recently used texts to stay within both of
+   * its bounds.
+   */
+  @Test
+  public void testEviction() {
+
+    PolynomialParser parser = new PolynomialParser(3, 20);
+
+    parser.parse("1x^1");
+    parser.parse("2x^2");
+    parser.parse("3x^3");
+    parser.parse("1x^1");
+    parser.parse("4x^4");
+    assertEquals(3, parser.size());
+    assertEquals(1, parser.stats().evictionCount());
+
+    parser.parse("+5x^5 +6x^6 +7x^7");
+    assertEquals(1, parser.size());
+    assertEquals(17, parser.weight());
+    assertEquals(4, parser.stats().evictionCount());
+
+    parser.parse("+1x^1 +2x^2 +3x^3 +4x^4 +5x^5");
+    assertEquals(1, parser.size());
+    assertEquals(17, parser.weight());
+    assertEquals(4, parser.stats().evictionCount());
+  }
+
+}
@@ -0,0 +1,116 @@
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import polynomial.Polynomial;
+import polynomial.PolynomialFormatException;
+import polynomial.PolynomialImpl;
+import polynomial.PolynomialScanner;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+/**
+ * This class tests the single pass parser of polynomials.
+ */
+public class PolynomialScannerTest {
+
+  /**
+   * This method tests parsing from the different kinds of input.
+   */
+  @Test
+  public void testParseInputs() throws IOException {
+
+    String text = "+3x^4 -2x^5 -5 -2x^4 +11x";
+
+    Polynomial fromText = new PolynomialImpl();
+    PolynomialScanner.parse(text, fromText::addTerm);
+    assertEquals("-2x^5+1x^4+11x^1-5", fromText.toString());
+
+    Polynomial fromReader = new PolynomialImpl();
+    PolynomialScanner.parse(new StringReader(text), fromReader::addTerm);
+    assertEquals(fromText, fromReader);
+
+    ByteBuffer bytes = ByteBuffer.wrap(text.getBytes(StandardCharsets.US_ASCII));
+    Polynomial fromBytes = new PolynomialImpl();
+    PolynomialScanner.parse(bytes, fromBytes::addTerm);
+    assertEquals(fromText, fromBytes);
+    assertEquals(0, bytes.remaining());
+
+    Polynomial variable = new PolynomialImpl("4y^2   -1y +7");
+    assertEquals("4x^2-1x^1+7", variable.toString());
+  }
+
+  /**
+   * This method tests that tabs and line breaks are ignored before and after a term, as they are
+   * when each term is trimmed, but not inside a term or where there is no term.
+   */
+  @Test
+  public void testWhitespace() throws IOException {
+
+    assertEquals("19x^2", new PolynomialImpl("+19x^2\n").toString());
+    assertEquals("3x^1-12", new PolynomialImpl("+3x\n -12").toString());
+    assertEquals("3", new PolynomialImpl("3\t").toString());
+    assertEquals("49", new PolynomialImpl("\n+49").toString());
+    assertEquals("2x^3-1", new PolynomialImpl("\t+2x^3\t\r\n -1\n").toString());
+
+    Polynomial fromReader = new PolynomialImpl();
+    PolynomialScanner.parse(new StringReader("+3x^4 -2x^5 -5\n"), fromReader::addTerm);
+    assertEquals("-2x^5+3x^4-5", fromReader.toString());
+
+    Polynomial fromFile = new PolynomialImpl();
+    PolynomialScanner.parse(new StringReader("+3x^4 -2x^5 -5\r\n"), fromFile::addTerm);
+    assertEquals(fromReader, fromFile);
+
+    assertError("+3x\n^2", "The polynomial is incorrect!", 4);
+    assertError("+3x^2\n-1", "The polynomial is incorrect!", 6);
+    assertError("\n3x^2", "The polynomial is incorrect!", 1);
+    assertError("+3x^2 \t+", "The polynomial is incorrect!", 8);
+    assertError("\t", "The polynomial is incorrect!", 0);
+    assertError(" \n", "The polynomial is incorrect!", 1);
+    assertError("+3x^2 \n", "The polynomial is incorrect!", 6);
+    assertError("\t +12x", "The polynomial is incorrect!", 0);
+    assertError("+3x^2 \r\n -1 \n", "The polynomial is incorrect!", 6);
+  }
+
+  /**
+   * This method tests that errors are reported at the character where they are found.
+   */
+  @Test
+  public void testErrorOffsets() {
+
+    assertError("3x^2 5x^2", "The polynomial is incorrect!", 5);
+    assertError("3x^2 +2x^-2", "The polynomial is incorrect!", 9);
+    assertError("2x^2+3x^3", "The polynomial is incorrect!", 4);
+    assertError("3x^2 + +2x^2", "The polynomial is incorrect!", 6);
+    assertError("+3x^2 +2x^", "The polynomial is incorrect!", 10);
+    assertError("+3x^2 +2147483648", "The polynomial is incorrect!", 6);
+    assertError("3x^2 5x^2 +1y^1", "the place holders are different", 12);
+    assertError("3xy^2", "the place holders are different", 2);
+
+    Polynomial p = new PolynomialImpl("-2147483648 +2147483647x^2147483647");
+    assertEquals(-2147483648, p.getCoefficient(0));
+    assertEquals(2147483647, p.getCoefficient(2147483647));
+  }
+
+  /**
+   * This method checks that parsing a text fails with the given message and offset.
+   *
+   * @param text    the text of the polynomial.
+   * @param message the expected message.
+   * @param offset  the expected offset of the error.
+   */
+  private static void assertError(String text, String message, long offset) {
+    try {
+      PolynomialScanner.parse(text, (coefficient, power) -> { });
+      fail();
+    } catch (PolynomialFormatException e) {
+      assertEquals(message, e.getMessage());
+      assertEquals(offset, e.getErrorOffset());
+    }
+  }
+
+}
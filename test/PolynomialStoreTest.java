@@ -0,0 +1,159 @@
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import polynomial.MappedPolynomial;
+import polynomial.Polynomial;
+import polynomial.PolynomialFormatException;
+import polynomial.PolynomialImpl;
+import polynomial.PolynomialStore;
+import polynomial.SparsePolynomial;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+/**
+ * This class tests storing polynomials in a memory mapped file.
+ */
+public class PolynomialStoreTest {
+
+  /**
+   * This method tests that the stored polynomials read back with the same terms.
+   */
+  @Test
+  public void testWriteAndOpen() throws IOException {
+
+    Random random = new Random(23);
+    List<Polynomial> polynomials = new ArrayList<>();
+    polynomials.add(new PolynomialImpl());
+    polynomials.add(new PolynomialImpl("3x^4 -2x^1 +7"));
+    for (int i = 0; i < 200; i++) {
+      Polynomial p = new SparsePolynomial();
+      for (int j = random.nextInt(40); j > 0; j--) {
+        p.addTerm(random.nextInt(201) - 100, random.nextInt(1000));
+      }
+      polynomials.add(p);
+    }
+
+    Path file = Files.createTempFile("polynomials", ".store");
+    try {
+      PolynomialStore.write(file, polynomials);
+
+      MappedPolynomial second;
+      PolynomialStore closed;
+      try (PolynomialStore store = PolynomialStore.open(file)) {
+        assertEquals(polynomials.size(), store.size());
+
+        for (int id = store.size() - 1; id >= 0; id--) {
+          Polynomial expected = polynomials.get(id);
+          MappedPolynomial stored = store.get(id);
+          assertEquals(expected, stored);
+          assertEquals(expected.hashCode(), stored.hashCode());
+          assertEquals(expected.toString(), stored.toString());
+          assertEquals(expected.getDegree(), stored.getDegree());
+          assertEquals(expected.evaluate(0.75), stored.evaluate(0.75), 1e-9);
+          for (int power = 0; power <= expected.getDegree() + 1; power++) {
+            assertEquals(expected.getCoefficient(power), stored.getCoefficient(power));
+          }
+          assertEquals(expected.derivative(), stored.derivative());
+          assertEquals(expected.add(expected), stored.add(stored));
+        }
+
+        second = store.get(1);
+        closed = store;
+      }
+
+      assertEquals(7.0 + 3 - 2, second.evaluate(1), 0);
+      try {
+        closed.get(1);
+        fail("a closed store should not be read");
+      } catch (IllegalStateException e) {
+        assertEquals("the store has been closed", e.getMessage());
+      }
+    } finally {
+      Files.delete(file);
+    }
+  }
+
+  /**
+   * This method tests that ids outside the store and stored polynomials cannot be used to change
+   * anything.
+   */
+  @Test
+  public void testInvalidUse() throws IOException {
+
+    Path file = Files.createTempFile("polynomials", ".store");
+    try {
+      List<Polynomial> polynomials = new ArrayList<>();
+      polynomials.add(new PolynomialImpl("1x^2"));
+      PolynomialStore.write(file, polynomials);
+
+      try (PolynomialStore store = PolynomialStore.open(file)) {
+        try {
+          store.get(1);
+          fail("an id outside the store should be rejected");
+        } catch (IndexOutOfBoundsException e) {
+          assertEquals("there is no polynomial with this id", e.getMessage());
+        }
+        try {
+          store.get(0).addTerm(1, 1);
+          fail("a stored polynomial should not be changed");
+        } catch (UnsupportedOperationException e) {
+          assertEquals("the polynomial cannot be changed", e.getMessage());
+        }
+      }
+
+      //the header and the index take 24 and 8 bytes, and the polynomial takes 24 bytes in between
+      byte[] bytes = Files.readAllBytes(file);
+      assertEquals(56, bytes.length);
+      assertCorrupted(file, bytes, 48, 8L, 48);
+      assertCorrupted(file, bytes, 48, 28L, 48);
+      assertCorrupted(file, bytes, 48, 48L, 48);
+      assertCorrupted(file, bytes, 48, 1L << 40, 48);
+      assertCorrupted(file, bytes, 24, 2L << 32, 24);
+      assertCorrupted(file, bytes, 24, -1L << 32, 24);
+
+      Files.write(file, new byte[] {1, 2, 3});
+      try {
+        PolynomialStore.open(file).close();
+        fail("a file that is not a store should be rejected");
+      } catch (IOException e) {
+        assertEquals("the file is not a polynomial store", e.getMessage());
+      }
+    } finally {
+      Files.delete(file);
+    }
+  }
+
+  /**
+   * This method changes a long of a store file and checks that getting its first polynomial is
+   * rejected as corrupted at the given offset.
+   *
+   * @param file   the file of the store.
+   * @param bytes  the content of the file before the change.
+   * @param at     the offset of the long to be changed.
+   * @param value  the new value of the long, written in the byte order of the store.
+   * @param offset the expected offset of the error.
+   * @throws IOException if the file cannot be written or read.
+   */
+  private static void assertCorrupted(Path file, byte[] bytes, int at, long value, long offset)
+          throws IOException {
+    byte[] corrupted = bytes.clone();
+    ByteBuffer.wrap(corrupted).putLong(at, value);
+    Files.write(file, corrupted);
+    try (PolynomialStore store = PolynomialStore.open(file)) {
+      store.get(0);
+      fail("a corrupted store should be rejected");
+    } catch (PolynomialFormatException e) {
+      assertEquals("the polynomial store is corrupted", e.getMessage());
+      assertEquals(offset, e.getErrorOffset());
+    }
+  }
+
+}
@@ -1,7 +1,19 @@
 import org.junit.Test;
 
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import polynomial.CacheStats;
+import polynomial.DensePolynomial;
 import polynomial.Polynomial;
 import polynomial.PolynomialImpl;
+import polynomial.SparsePolynomial;
+import polynomial.TermIterator;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.fail;
@@ -47,6 +59,18 @@ public class PolynomialTest {
     Polynomial p6DoubleDerivative = p6Derivative.derivative();
     assertEquals("294x^5+180x^4+100x^3+48x^2", p6DoubleDerivative.toString());
 
+    //65536 * 65536 wraps around to zero, so that term is dropped from the derivative
+    Polynomial p7 = new PolynomialImpl("65536x^65536 +1x^2");
+    Polynomial p7Derivative = p7.derivative();
+    assertEquals("2x^1", p7Derivative.toString());
+    assertEquals(1, p7Derivative.getDegree());
+    assertEquals(new DensePolynomial("65536x^65536 +1x^2").derivative(), p7Derivative);
+    assertEquals(new SparsePolynomial("65536x^65536 +1x^2").derivative(), p7Derivative);
+
+    Polynomial p8Derivative = new PolynomialImpl("65536x^65536").derivative();
+    assertEquals("0", p8Derivative.toString());
+    assertEquals(0, p8Derivative.getDegree());
+    assertEquals(new PolynomialImpl(), p8Derivative);
 
   }
 
@@ -219,6 +243,41 @@ public class PolynomialTest {
 
   }
 
+  /**
+   * This method tests the addition of polynomials stored in different implementations.
+   */
+  @Test
+  public void testAddAcrossImplementations() {
+
+    Polynomial p1 = new PolynomialImpl("3x^2 +5x^3 +6");
+    Polynomial p2 = new DensePolynomial("-3x^2 +4x^4 +2");
+    Polynomial p3 = new SparsePolynomial("-5x^3 +1x^9");
+
+    assertEquals("4x^4+5x^3+8", p1.add(p2).toString());
+    assertEquals("1x^9+3x^2+6", p1.add(p3).toString());
+    assertEquals("1x^9+4x^4-5x^3-3x^2+2", p2.add(p3).toString());
+    assertEquals("1x^9+4x^4+8", p1.add(p2).add(p3).toString());
+    assertEquals("5x^3+3x^2+6", p1.toString());
+  }
+
+  /**
+   * This method tests that the terms of a polynomial are visited in decreasing order of power.
+   */
+  @Test
+  public void testTerms() {
+
+    Polynomial p = new PolynomialImpl("+3x^4 -2x^5 -5 -2x^4 +11x^1");
+    TermIterator terms = p.terms();
+
+    StringBuilder visited = new StringBuilder();
+    while (terms.next()) {
+      visited.append(terms.getCoefficient()).append('@').append(terms.getPower()).append(' ');
+    }
+    assertEquals("-2@5 1@4 11@1 -5@0 ", visited.toString());
+
+    assertEquals(false, new PolynomialImpl().terms().next());
+  }
+
   /**
    * This method tests the creation of polynomial by term.
    */
@@ -328,6 +387,111 @@ public class PolynomialTest {
     Polynomial p5 = new PolynomialImpl("2x^3 +3x^1");
     assertEquals(0.0, p5.evaluate(0.0), 0.01);
 
+    Polynomial p6 = new PolynomialImpl("1x^100000 +3x^7 -1");
+    double expected = Math.pow(1.00001, 100000) + 3 * Math.pow(1.00001, 7) - 1;
+    assertEquals(expected, p6.evaluate(1.00001), 1e-9);
+    p6.addTerm(-3, 7);
+    assertEquals(expected - 3 * Math.pow(1.00001, 7), p6.evaluate(1.00001), 1e-9);
+
+  }
+
+  /**
+   * This method tests the evaluation of a polynomial at many values in one call.
+   */
+  @Test
+  public void testEvaluateBatch() {
+
+    double[] xs = {2.0, 0.0, -1.5, 1.01, 3.0, 0.5, -2.0};
+    Polynomial[] polynomials = {
+        new PolynomialImpl("+3x^4 -2x^5 -5 -2x^4 +11x^1"),
+        new DensePolynomial("+3x^4 -2x^5 -5 -2x^4 +11x^1"),
+        new SparsePolynomial("-19x^456 +2x^3 -7"),
+        new PolynomialImpl("")
+    };
+
+    for (Polynomial p : polynomials) {
+      double[] out = new double[xs.length];
+      p.evaluate(xs, out);
+      for (int i = 0; i < xs.length; i++) {
+        assertEquals(p.evaluate(xs[i]), out[i], 1e-9);
+      }
+
+      double[] inPlace = xs.clone();
+      p.evaluate(inPlace, 2, inPlace, 2, 3);
+      assertEquals(xs[1], inPlace[1], 0);
+      assertEquals(p.evaluate(xs[3]), inPlace[3], 1e-9);
+      assertEquals(xs[5], inPlace[5], 0);
+
+      DoubleBuffer in = ByteBuffer.allocateDirect(8 * xs.length).asDoubleBuffer();
+      in.put(xs).flip();
+      DoubleBuffer result = DoubleBuffer.allocate(xs.length);
+      p.evaluate(in, result);
+      assertEquals(0, in.remaining());
+      assertEquals(out[6], result.get(6), 1e-9);
+    }
+
+    try {
+      new PolynomialImpl("2x^2").evaluate(xs, new double[2]);
+      fail();
+    } catch (IndexOutOfBoundsException e) {
+      assertEquals("the range does not fit in the arrays", e.getMessage());
+    }
+  }
+
+  /**
+   * This method tests operations on a polynomial with a very large number of terms.
+   */
+  @Test
+  public void testManyTerms() {
+
+    Polynomial dense = new DensePolynomial();
+    for (int power = 0; power < 100000; power++) {
+      dense.addTerm(power % 5 + 1, power);
+    }
+
+    Polynomial p = new PolynomialImpl().add(dense);
+    assertEquals(99999, p.getDegree());
+    assertEquals(3, p.getCoefficient(50002));
+    assertEquals(dense.toString(), p.toString());
+    assertEquals(dense.derivative().toString(), p.derivative().toString());
+    assertEquals(dense.evaluate(0.5), p.evaluate(0.5), 1e-9);
+    assertEquals(true, p.equals(new PolynomialImpl().add(dense)));
+
+    p.addTerm(-3, 50002);
+    assertEquals(0, p.getCoefficient(50002));
+    p.addTerm(7, 100000);
+    assertEquals(100000, p.getDegree());
+
+    Polynomial large = new PolynomialImpl();
+    large.addTerm(200, 2);
+    large.addTerm(-200, 2);
+    assertEquals("0", large.toString());
+  }
+
+  /**
+   * This method tests that adding and cancelling many terms in any order keeps every coefficient
+   * right.
+   */
+  @Test
+  public void testAddAndCancelTerms() {
+
+    Random random = new Random(7);
+    Polynomial p = new PolynomialImpl();
+    Polynomial expected = new DensePolynomial();
+
+    for (int i = 0; i < 20000; i++) {
+      int power = random.nextInt(300);
+      int coefficient = p.getCoefficient(power) != 0 && random.nextBoolean()
+              ? -p.getCoefficient(power) : random.nextInt(11) - 5;
+      p.addTerm(coefficient, power);
+      expected.addTerm(coefficient, power);
+    }
+
+    for (int power = 0; power < 300; power++) {
+      assertEquals(expected.getCoefficient(power), p.getCoefficient(power));
+    }
+    assertEquals(expected.toString(), p.toString());
+    assertEquals(expected.getDegree(), p.getDegree());
   }
 
   /**
@@ -391,6 +555,84 @@ public class PolynomialTest {
     assertEquals(true, p5.equals(p4));
   }
 
+  /**
+   * This method tests equality and hashing across implementations, and that the hash follows the
+   * terms added to a polynomial.
+   */
+  @Test
+  public void testEqualsAcrossImplementations() {
+
+    Polynomial p = new PolynomialImpl("+3x^4 -2x^5 -5 +11x^1");
+    Polynomial dense = new DensePolynomial(p);
+    Polynomial sparse = new SparsePolynomial(p);
+
+    assertEquals(true, p.equals(dense));
+    assertEquals(true, dense.equals(sparse));
+    assertEquals(true, sparse.equals(p));
+    assertEquals(p.hashCode(), dense.hashCode());
+    assertEquals(p.hashCode(), sparse.hashCode());
+    assertEquals(false, p.equals("-2x^5+3x^4+11x^1-5"));
+    assertEquals(false, p.equals(null));
+
+    p.addTerm(1, 2);
+    assertEquals(false, p.equals(dense));
+    assertEquals(false, sparse.equals(p));
+    sparse.addTerm(1, 2);
+    assertEquals(true, sparse.equals(p));
+    assertEquals(p.hashCode(), sparse.hashCode());
+
+    p.addTerm(-1, 2);
+    assertEquals(true, p.equals(dense));
+    assertEquals(dense.hashCode(), p.hashCode());
+
+    Set<Polynomial> set = new HashSet<>();
+    set.add(new PolynomialImpl("1x^1 +1"));
+    set.add(new SparsePolynomial("+1 +1x^1"));
+    set.add(new DensePolynomial("1x^1 +2"));
+    assertEquals(2, set.size());
+  }
+
+  /**
+   * This method tests that every implementation wraps coefficients that overflow around in the
+   * same way as int arithmetic, so they agree with each other on every operation.
+   */
+  @Test
+  public void testOverflowAcrossImplementations() {
+
+    Polynomial[] polynomials = {new PolynomialImpl(), new DensePolynomial(),
+        new SparsePolynomial()};
+
+    for (Polynomial p : polynomials) {
+      p.addTerm(Integer.MAX_VALUE, 3);
+      p.addTerm(Integer.MAX_VALUE, 3);
+      p.addTerm(Integer.MIN_VALUE, 1);
+      p.addTerm(Integer.MIN_VALUE, 1);
+      p.addTerm(1 << 30, 2);
+      p.addTerm(7, 0);
+
+      assertEquals(-2, p.getCoefficient(3));
+      assertEquals(0, p.getCoefficient(1));
+      assertEquals("-2x^3+1073741824x^2+7", p.toString());
+      assertEquals(-2.0 + (1 << 30) + 7, p.evaluate(1), 0);
+      assertEquals(-2 * 3, p.derivative().getCoefficient(2));
+      assertEquals(Integer.MIN_VALUE, p.derivative().getCoefficient(1));
+      assertEquals(Integer.MIN_VALUE, p.add(p).getCoefficient(2));
+      assertEquals(0, p.multiply(p).getCoefficient(4));
+      assertEquals(4, p.multiply(p).getCoefficient(6));
+    }
+
+    for (Polynomial p : polynomials) {
+      for (Polynomial other : polynomials) {
+        assertEquals(p, other);
+        assertEquals(p.hashCode(), other.hashCode());
+        assertEquals(p.add(p), other.add(other));
+        assertEquals(p.add(other), other.add(p));
+        assertEquals(p.derivative(), other.derivative());
+        assertEquals(p.multiply(p), other.multiply(other));
+      }
+    }
+  }
+
   /**
    * This method tests polynomial string.
    */
@@ -434,5 +676,90 @@ public class PolynomialTest {
 
   }
 
+  /**
+   * This method tests writing the text of a polynomial to a StringBuilder and to a writer.
+   */
+  @Test
+  public void testAppendAndWrite() throws IOException {
+
+    Polynomial[] polynomials = {new PolynomialImpl("+3x^4 -2x^5 -5 +11x^1"),
+        new DensePolynomial("+3x^4 -2x^5 -5 +11x^1"), new SparsePolynomial(""),
+        new DensePolynomial("-7")};
+
+    for (Polynomial p : polynomials) {
+      StringBuilder text = new StringBuilder("p=");
+      p.appendTo(text);
+      assertEquals("p=" + p.toString(), text.toString());
+    }
+
+    Polynomial large = new SparsePolynomial();
+    StringBuilder expected = new StringBuilder();
+    for (int power = 5000; power >= 0; power--) {
+      large.addTerm(power % 2 == 0 ? -power - 1 : power + 1, power);
+      if (power % 2 != 0 && power != 5000) {
+        expected.append('+');
+      }
+      expected.append(power % 2 == 0 ? -power - 1 : power + 1);
+      if (power != 0) {
+        expected.append("x^").append(power);
+      }
+    }
+
+    StringWriter writer = new StringWriter();
+    large.writeTo(writer);
+    assertEquals(expected.toString(), writer.toString());
+    assertEquals(expected.toString(), large.toString());
+  }
+
+  /**
+   * This method tests the evaluation cache of a polynomial.
+   */
+  @Test
+  public void testEvaluationCache() {
+
+    PolynomialImpl p = new PolynomialImpl("+3x^4 -2x^5 -5 +11x^1");
+    p.enableEvaluationCache(16);
+
+    for (int round = 0; round < 3; round++) {
+      for (int i = 0; i < 8; i++) {
+        assertEquals(new SparsePolynomial(p).evaluate(i * 0.5), p.evaluate(i * 0.5), 1e-9);
+      }
+    }
+    //the points 0, 0.5, ..., 3.5 fall into 8 different slots of the 16
+    assertStats(16, 8, 0, p.getEvaluationCacheStats());
+
+    //4 falls into the same slot as 0, so each one replaces the other
+    assertEquals(-2 * 1024 + 3 * 256 + 44 - 5, p.evaluate(4.0), 1e-9);
+    assertStats(16, 9, 1, p.getEvaluationCacheStats());
+    assertEquals(-5, p.evaluate(0.0), 1e-9);
+    assertStats(16, 10, 2, p.getEvaluationCacheStats());
+    p.evaluate(0.5);
+    assertStats(17, 10, 2, p.getEvaluationCacheStats());
+
+    //a change forgets every point without counting them as evictions
+    p.addTerm(1, 0);
+    assertEquals(-2 * 32 + 3 * 16 + 22 - 4, p.evaluate(2.0), 1e-9);
+    assertStats(17, 11, 2, p.getEvaluationCacheStats());
+    assertEquals(-2 * 32 + 3 * 16 + 22 - 4, p.evaluate(2.0), 1e-9);
+    assertStats(18, 11, 2, p.getEvaluationCacheStats());
+
+    p.disableEvaluationCache();
+    assertEquals(0, p.getEvaluationCacheStats().hitCount());
+    assertEquals(-2 * 32 + 3 * 16 + 22 - 4, p.evaluate(2.0), 1e-9);
+  }
+
+  /**
+   * This method checks the counters of a cache.
+   *
+   * @param hits      the expected number of hits.
+   * @param misses    the expected number of misses.
+   * @param evictions the expected number of evictions.
+   * @param stats     the counters of the cache.
+   */
+  private static void assertStats(long hits, long misses, long evictions, CacheStats stats) {
+    assertEquals(hits, stats.hitCount());
+    assertEquals(misses, stats.missCount());
+    assertEquals(evictions, stats.evictionCount());
+  }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,121 @@
+import org.junit.Test;
+
+import polynomial.Polynomial;
+import polynomial.PolynomialFormatException;
+import polynomial.PolynomialImpl;
+import polynomial.SparsePolynomial;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+/**
+ * This class tests the sparse implementation of the Polynomial Interface.
+ */
+public class SparsePolynomialTest {
+
+  /**
+   * This method tests the creation of a sparse polynomial by term.
+   */
+  @Test
+  public void testCreationByTerm() {
+
+    Polynomial p = new SparsePolynomial();
+    assertEquals("0", p.toString());
+    assertEquals(0, p.getDegree());
+
+    p.addTerm(1, 100000);
+    p.addTerm(3, 7);
+    p.addTerm(-1, 0);
+    assertEquals("1x^100000+3x^7-1", p.toString());
+    assertEquals(100000, p.getDegree());
+    assertEquals(3, p.getCoefficient(7));
+    assertEquals(0, p.getCoefficient(8));
+
+    p.addTerm(-1, 100000);
+    assertEquals("3x^7-1", p.toString());
+    assertEquals(7, p.getDegree());
+
+    try {
+      p.addTerm(2, -2);
+      fail();
+    } catch (IllegalArgumentException e) {
+      assertEquals("power cannot be less than zero!!", e.getMessage());
+    }
+  }
+
+  /**
+   * This method tests that a sparse polynomial parses its text exactly as PolynomialImpl does.
+   */
+  @Test
+  public void testCreationByString() {
+
+    Polynomial p = new SparsePolynomial("+2147483647x^9 +2147483647x^9 -4 +3x^2 +4 -3x^2\n");
+    assertEquals("-2x^9", p.toString());
+    assertEquals(new PolynomialImpl("+2147483647x^9 +2147483647x^9 -4 +3x^2 +4 -3x^2\n"), p);
+    assertEquals("0", new SparsePolynomial("+3x^2 -3x^2").toString());
+
+    String[] texts = {"+3x^2 \n", "\t", "3x^2 5x^2", "+3x^2 +2y^1"};
+    for (String text : texts) {
+      PolynomialFormatException expected = null;
+      try {
+        new PolynomialImpl(text);
+        fail();
+      } catch (PolynomialFormatException e) {
+        expected = e;
+      }
+      try {
+        new SparsePolynomial(text);
+        fail("an incorrect polynomial should be rejected");
+      } catch (PolynomialFormatException e) {
+        assertEquals(expected.getMessage(), e.getMessage());
+        assertEquals(expected.getErrorOffset(), e.getErrorOffset());
+      }
+    }
+  }
+
+  /**
+   * This method tests the addition of sparse polynomials.
+   */
+  @Test
+  public void testAdd() {
+    Polynomial p1 = new SparsePolynomial("3x^2 +5x^3 +6");
+    Polynomial p2 = new SparsePolynomial("-3x^2 +4x^4 +2");
+    assertEquals("4x^4+5x^3+8", p1.add(p2).toString());
+    assertEquals("5x^3+3x^2+6", p1.toString());
+    assertEquals("4x^4-3x^2+2", p2.toString());
+
+    Polynomial p3 = new SparsePolynomial("3x^2 +5x^3");
+    assertEquals("0", p3.add(new SparsePolynomial("-3x^2 -5x^3")).toString());
+    assertEquals("-13x^5+4x^4+5x^3+3x^2+2",
+            p3.add(new PolynomialImpl("-13x^5 +4x^4 +2")).toString());
+  }
+
+  /**
+   * This method tests the derivative and evaluation of sparse polynomials.
+   */
+  @Test
+  public void testDerivativeAndEvaluate() {
+    Polynomial p = new SparsePolynomial("4x^4 +5x^5 +6x^6 +7x^7");
+    assertEquals("294x^5+180x^4+100x^3+48x^2", p.derivative().derivative().toString());
+    assertEquals("2", new SparsePolynomial("2x^1 +5").derivative().toString());
+    assertEquals("0", new SparsePolynomial("2").derivative().toString());
+
+    Polynomial p1 = new SparsePolynomial("+3x^4 -2x^5 -5 -2x^4 +11x^1");
+    assertEquals(-31.0, p1.evaluate(2.0), 0.01);
+    assertEquals(2209.3540000000007, new SparsePolynomial("2x^3 +3x^1 -7").evaluate(10.3), 0.01);
+  }
+
+  /**
+   * This method tests equality between sparse polynomials.
+   */
+  @Test
+  public void testEquals() {
+    Polynomial p = new SparsePolynomial("2x^2 +3x^3");
+    Polynomial p1 = new SparsePolynomial("3x^3 +2x^2");
+    assertEquals(true, p.equals(p1));
+    assertEquals(p.hashCode(), p1.hashCode());
+    assertEquals(false, p.equals(new SparsePolynomial("2x^2")));
+    assertEquals(true, p.equals(new PolynomialImpl("2x^2 +3x^3")));
+  }
+
+}